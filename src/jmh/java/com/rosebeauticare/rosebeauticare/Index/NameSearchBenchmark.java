@@ -0,0 +1,89 @@
+package com.rosebeauticare.rosebeauticare.Index;
+
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Substring name search through the trigram index against the case-insensitive regex scan
+ * that MongoDB runs for {@code findByNameContainingIgnoreCase} (approximated in-process,
+ * without the network and document decoding costs). The repository fallback reads every
+ * match before trimming to the limit, so the scan does the same.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NameSearchBenchmark {
+
+    private static final String[] FIRST = {"Priya", "Ramya", "Anitha", "Lakshmi", "Divya", "Kavya", "Meena",
+            "Sangeetha", "Revathi", "Deepa", "Nithya", "Swathi", "Janani", "Harini", "Keerthana"};
+    private static final String[] LAST = {"Raman", "Krishnan", "Sundaram", "Natarajan", "Subramanian",
+            "Venkatesh", "Balaji", "Murugan", "Selvam", "Ganesan", "Rajendran", "Pandian"};
+
+    @Param({"100000", "1000000"})
+    private int customers;
+
+    @Param({"kri", "sundaram", "ya kr"})
+    private String query;
+
+    private NameTrigramIndex index;
+    private List<String> names;
+    private Pattern pattern;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        names = new ArrayList<>(customers);
+        List<Customer> documents = new ArrayList<>(customers);
+        for (int i = 0; i < customers; i++) {
+            String name = FIRST[random.nextInt(FIRST.length)] + " " + LAST[random.nextInt(LAST.length)] + " " + i;
+            names.add(name);
+            documents.add(Customer.builder().id(Integer.toString(i)).name(name).build());
+        }
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(documents.stream());
+        index = new NameTrigramIndex(mongoTemplate, true);
+        index.load();
+        pattern = Pattern.compile(Pattern.quote(query), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    @Benchmark
+    public Optional<List<String>> trigramIndex() {
+        return index.search(query, 50);
+    }
+
+    @Benchmark
+    public List<String> regexScan() {
+        List<String> matches = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (pattern.matcher(names.get(i)).find()) {
+                matches.add(Integer.toString(i));
+            }
+        }
+        return matches.subList(0, Math.min(50, matches.size()));
+    }
+}
@@ -0,0 +1,126 @@
+package com.rosebeauticare.rosebeauticare.Response.Customer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.config.DataResponseMessageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing a list response: {@code serialize} measures Jackson data binding
+ * of the whole envelope, {@code jacksonConverter} and {@code envelopeConverter} compare the
+ * default message converter path with {@link DataResponseMessageConverter}, both writing to
+ * a reused buffer. The ObjectMapper is configured the way Spring Boot configures the one
+ * used by the message converters. Run with {@code -prof gc} for bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DataResponseSerializationBenchmark {
+
+    @Param({"1", "20", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<CustomerDTO> customers;
+    private DataResponse<List<CustomerDTO>> response;
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+    private DataResponseMessageConverter envelopeConverter;
+    private BufferedOutputMessage output;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        envelopeConverter = new DataResponseMessageConverter(objectMapper);
+        output = new BufferedOutputMessage();
+        customers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            customers.add(CustomerDTO.builder()
+                    .id("6650f0c2a1b2c3d4e5f6%04d".formatted(i))
+                    .name("Customer " + i)
+                    .phone("98765%05d".formatted(i))
+                    .address("12 Temple Street")
+                    .district("Madurai")
+                    .state("Tamil Nadu")
+                    .status("ACTIVE")
+                    .gender("FEMALE")
+                    .dob(new Date(702_000_000_000L))
+                    .age(34)
+                    .joinDate(new Date(1_704_800_000_000L))
+                    .build());
+        }
+        response = DataResponse.success(customers, "Customers retrieved successfully");
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public int jacksonConverter() throws Exception {
+        output.reset();
+        jacksonConverter.write(DataResponse.success(customers, "Found %d customers".formatted(size)),
+                MediaType.APPLICATION_JSON, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int envelopeConverter() throws Exception {
+        output.reset();
+        envelopeConverter.write(DataResponse.success(customers, "Found %d customers".formatted(size)),
+                MediaType.APPLICATION_JSON, output);
+        return output.size();
+    }
+
+    /** Response body kept in one reused buffer, standing in for the servlet output stream. */
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(256 * 1024);
+        private final HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+            headers.clear();
+        }
+
+        int size() {
+            return body.size();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
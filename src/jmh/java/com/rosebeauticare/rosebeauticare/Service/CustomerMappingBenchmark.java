@@ -0,0 +1,73 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Response.Customer.DataResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-record mapping and validation costs paid on every customer read and write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomerMappingBenchmark {
+
+    private CustomerService customerService;
+    private Customer customer;
+    private CustomerDTO customerDTO;
+
+    @Setup
+    public void setUp() {
+        customerService = new CustomerService(null, null, null, null, null, null, null, null, null);
+        customer = Customer.builder()
+                .id("6650f0c2a1b2c3d4e5f60718")
+                .name("Priya Raman")
+                .phone("9876543210")
+                .altPhone("9123456780")
+                .address("12 Temple Street")
+                .district("Madurai")
+                .state("Tamil Nadu")
+                .status("ACTIVE")
+                .gender("FEMALE")
+                .dob(LocalDate.of(1992, 4, 17))
+                .age(34)
+                .joinDate(LocalDate.of(2024, 1, 9))
+                .build();
+        customerDTO = customerService.convertToDTO(customer);
+    }
+
+    @Benchmark
+    public CustomerDTO convertToDTO() {
+        return customerService.convertToDTO(customer);
+    }
+
+    @Benchmark
+    public Customer convertToEntity() {
+        return customerService.convertToEntity(customerDTO);
+    }
+
+    @Benchmark
+    public String validatePhoneFormat() {
+        customerService.validatePhoneFormat(customerDTO.getPhone());
+        return customerDTO.getPhone();
+    }
+
+    @Benchmark
+    public DataResponse<CustomerDTO> dataResponseSuccess() {
+        return DataResponse.success(customerDTO, "Customer retrieved successfully");
+    }
+}
@@ -0,0 +1,108 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Repository.Projection.CustomerIdNamePhone;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNamePhoneResponse;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.projection.EntityProjection;
+import org.springframework.data.projection.EntityProjectionIntrospector;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@code /active} row against one {@code /active/basic} row, from the BSON bytes the
+ * driver receives to the object the controller serialises: the full document mapped to a
+ * {@link Customer} and a {@link CustomerDTO}, or the id/name/phone document mapped through
+ * the closed {@link CustomerIdNamePhone} projection. Run with {@code -prof gc} for bytes
+ * allocated per row. On the wire the sample row is 401 BSON bytes in full and 66 projected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomerProjectionBenchmark {
+
+    private final DocumentCodec codec = new DocumentCodec();
+    private MappingMongoConverter converter;
+    private EntityProjection<CustomerIdNamePhone, Customer> projection;
+    private CustomerService customerService;
+    private RawBsonDocument fullDocumentBytes;
+    private RawBsonDocument projectedBytes;
+
+    @Setup
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        // As MongoTemplate sets up its projection introspector
+        projection = EntityProjectionIntrospector.create(converter.getProjectionFactory(),
+                        EntityProjectionIntrospector.ProjectionPredicate.typeHierarchy()
+                                .and((target, underlyingType) -> !conversions.isSimpleType(target)),
+                        mappingContext)
+                .introspect(CustomerIdNamePhone.class, Customer.class);
+        customerService = new CustomerService(null, null, null, null, null, null, null, null, null);
+
+        Customer customer = Customer.builder()
+                .id("6650f0c2a1b2c3d4e5f60718")
+                .name("Priya Raman")
+                .phone("9876543210")
+                .altPhone("9123456780")
+                .address("12 Temple Street")
+                .district("Madurai")
+                .state("Tamil Nadu")
+                .status("ACTIVE")
+                .gender("FEMALE")
+                .dob(LocalDate.of(1992, 4, 17))
+                .age(34)
+                .joinDate(LocalDate.of(2024, 1, 9))
+                .createdAt(LocalDateTime.of(2024, 1, 9, 10, 30))
+                .updatedAt(LocalDateTime.of(2024, 6, 2, 18, 5))
+                .version(3L)
+                .build();
+        customer.refreshDerivedFields();
+        Document full = new Document();
+        converter.write(customer, full);
+        fullDocumentBytes = new RawBsonDocument(full, codec);
+        projectedBytes = new RawBsonDocument(new Document("_id", full.get("_id"))
+                .append("name", full.get("name"))
+                .append("phone", full.get("phone")), codec);
+    }
+
+    @Benchmark
+    public CustomerDTO fullDocument() {
+        Document document = fullDocumentBytes.decode(codec);
+        return customerService.convertToDTO(converter.read(Customer.class, document));
+    }
+
+    @Benchmark
+    public IdNamePhoneResponse idNamePhoneProjection() {
+        Document document = projectedBytes.decode(codec);
+        CustomerIdNamePhone customer = converter.project(projection, document);
+        return IdNamePhoneResponse.of(customer.getId(), customer.getName(), customer.getPhone());
+    }
+}
@@ -0,0 +1,61 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.config.QuotaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client quota check against the single global AtomicLong counter it replaced. Runs at
+ * JMH's default single thread; pass {@code -t 4}, {@code -t 16} and so on through
+ * {@code jmh.args} to see how both scale with concurrent requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RequestQuotaBenchmark {
+
+    private RequestQuotaService quotaService;
+    private final AtomicLong globalCounter = new AtomicLong();
+
+    @State(Scope.Thread)
+    public static class Client {
+        String key;
+
+        @Setup
+        public void setUp() {
+            key = "ip:10.0.0." + ThreadLocalRandom.current().nextInt(256);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        QuotaProperties properties = new QuotaProperties();
+        properties.setRequestsPerMinute(Integer.MAX_VALUE);
+        properties.setRequestsPerDay(Long.MAX_VALUE);
+        quotaService = new RequestQuotaService(properties, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void perClientQuota(Client client) {
+        quotaService.checkQuota(client.key);
+    }
+
+    @Benchmark
+    public long globalAtomicCounter() {
+        return globalCounter.incrementAndGet();
+    }
+}
@@ -1,11 +1,26 @@
 // File: CustomerController.java (updated methods)
 package com.rosebeauticare.rosebeauticare.Controller;
 
+import com.rosebeauticare.rosebeauticare.DTO.BulkCustomerUpdateDTO;
 import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
 import com.rosebeauticare.rosebeauticare.Response.Customer.BasicResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.BulkOperationResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.CustomerStatsResponse;
 import com.rosebeauticare.rosebeauticare.Response.Customer.DataResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNamePhoneResponse;
 import com.rosebeauticare.rosebeauticare.Response.Customer.IdNameResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.JoinHistogramResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.KeysetPageResponse;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rosebeauticare.rosebeauticare.Service.CustomerBulkService;
+import com.rosebeauticare.rosebeauticare.Service.CustomerExportService;
+import com.rosebeauticare.rosebeauticare.Service.CustomerLookupCache;
 import com.rosebeauticare.rosebeauticare.Service.CustomerService;
+import com.rosebeauticare.rosebeauticare.Service.CustomerWriteEpoch;
+import com.rosebeauticare.rosebeauticare.Service.ExportFormat;
+import com.rosebeauticare.rosebeauticare.Service.HistogramInterval;
+import com.rosebeauticare.rosebeauticare.Service.JoinDateHistogram;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,6 +28,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
@@ -21,13 +37,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @RestController
@@ -38,6 +61,12 @@ import java.util.Map;
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final CustomerExportService customerExportService;
+    private final CustomerBulkService customerBulkService;
+    private final CustomerLookupCache customerLookupCache;
+    private final JoinDateHistogram joinDateHistogram;
+    private final CustomerWriteEpoch customerWriteEpoch;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create a new customer", description = "Creates a new customer with the provided information")
@@ -59,46 +88,94 @@ public class CustomerController {
                 .body(DataResponse.success(data, "Customer created successfully"));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Bulk import customers",
+            description = "Creates customers from a JSON array or an NDJSON stream and reports the outcome of every row")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import processed, see per-row results"),
+        @ApiResponse(responseCode = "400", description = "Request body is not a JSON array or NDJSON stream")
+    })
+    public ResponseEntity<DataResponse<BulkOperationResponse>> importCustomers(HttpServletRequest request)
+            throws IOException {
+        log.info("Bulk importing customers ({})", request.getContentType());
+
+        try (MappingIterator<CustomerDTO> rows = objectMapper.readerFor(CustomerDTO.class)
+                .readValues(request.getInputStream())) {
+            BulkOperationResponse response = customerBulkService.importCustomers(rows);
+
+            log.info("Bulk import completed: {} created, {} failed", response.getSucceeded(), response.getFailed());
+            return ResponseEntity.ok(DataResponse.success(response,
+                    "Imported %d of %d customers".formatted(response.getSucceeded(), response.getTotal())));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get customer by ID", description = "Retrieves customer details by their unique ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Customer found",
             content = @Content(schema = @Schema(implementation = CustomerDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Customer unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Customer not found")
     })
     public ResponseEntity<DataResponse<CustomerDTO>> getCustomerById(
             @Parameter(description = "Customer ID", example = "CUST001")
             @PathVariable @NotBlank(message = "Customer ID is required") String id) {
         log.debug("Fetching customer with ID: {}", id);
+        customerLookupCache.recordLookup(id);
         
         CustomerDTO customer = customerService.getCustomerById(id);
         
         log.debug("Customer found: {}", customer.getName());
-        return ResponseEntity.ok(DataResponse.success(customer, "Customer retrieved successfully"));
+        // A matching If-None-Match turns this into a bodiless 304
+        return ResponseEntity.ok()
+                .eTag(customerETag(customer))
+                .body(DataResponse.success(customer, "Customer retrieved successfully"));
     }
 
     @GetMapping
-    @Operation(summary = "Get all customers", description = "Retrieves a paginated list of all customers")
+    @Operation(summary = "Get all customers",
+            description = "Retrieves a paginated list of all customers. mode=keyset (or passing a cursor) switches to "
+                    + "seek-based paging that returns an opaque continuation token instead of page numbers")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Customers retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Customers retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported sort field or invalid cursor")
     })
-    public ResponseEntity<DataResponse<Page<Map<String, String>>>> getAllCustomers(
-            @Parameter(description = "Page number (0-based)", example = "0")
+    public ResponseEntity<DataResponse<?>> getAllCustomers(
+            @Parameter(description = "Page number (0-based, offset mode only)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", example = "20")
             @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "Sort field", example = "name")
+            @Parameter(description = "Sort field (name or joinDate)", example = "name")
             @RequestParam(defaultValue = "name") String sortBy,
             @Parameter(description = "Sort direction", example = "ASC")
-            @RequestParam(defaultValue = "ASC") String sortDir) {
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            @Parameter(description = "Paging mode (offset or keyset)", example = "keyset")
+            @RequestParam(defaultValue = "offset") String mode,
+            @Parameter(description = "Continuation token from the previous keyset page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Include the total customer count (keyset mode only)", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            WebRequest webRequest) {
+        if (listNotModified(webRequest)) {
+            return null;
+        }
         
-        log.debug("Fetching customers - page: {}, size: {}, sortBy: {}, sortDir: {}", 
-                page, size, sortBy, sortDir);
-        
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
+        log.debug("Fetching customers - page: {}, size: {}, sortBy: {}, sortDir: {}, mode: {}", 
+                page, size, sortBy, sortDir, mode);
+
+        Sort.Direction direction = Sort.Direction.fromString(sortDir);
+        if ("keyset".equalsIgnoreCase(mode) || cursor != null) {
+            KeysetPageResponse<IdNameResponse> customers =
+                    customerService.getCustomersKeyset(sortBy, direction, size, cursor, includeTotal);
+
+            log.debug("Retrieved {} customers, hasNext: {}", customers.getContent().size(), customers.isHasNext());
+            return ResponseEntity.ok(DataResponse.success(customers, "Customers retrieved successfully"));
+        }
+
+        Sort sort = Sort.by(direction, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Map<String, String>> customers = customerService.getAllCustomersPaginated(pageable);
+        Page<IdNameResponse> customers = customerService.getAllCustomersPaginated(pageable);
         
         log.debug("Retrieved {} customers", customers.getTotalElements());
         return ResponseEntity.ok(DataResponse.success(customers, "Customers retrieved successfully"));
@@ -124,6 +201,24 @@ public class CustomerController {
         return ResponseEntity.ok(DataResponse.success(updatedCustomer, "Customer updated successfully"));
     }
 
+    @PatchMapping("/bulk")
+    @Operation(summary = "Bulk update customers",
+            description = "Applies partial updates to many customers in batched bulk writes and reports the outcome per ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Updates processed, see per-ID results"),
+        @ApiResponse(responseCode = "400", description = "Invalid request body")
+    })
+    public ResponseEntity<DataResponse<BulkOperationResponse>> updateCustomers(
+            @RequestBody List<BulkCustomerUpdateDTO> updates) {
+        log.info("Bulk updating {} customers", updates.size());
+
+        BulkOperationResponse response = customerBulkService.updateCustomers(updates);
+
+        log.info("Bulk update completed: {} updated, {} failed", response.getSucceeded(), response.getFailed());
+        return ResponseEntity.ok(DataResponse.success(response,
+                "Updated %d of %d customers".formatted(response.getSucceeded(), response.getTotal())));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete customer", description = "Deletes a customer by their ID")
     @ApiResponses(value = {
@@ -150,7 +245,11 @@ public class CustomerController {
             @Parameter(description = "Search query", example = "john")
             @RequestParam @NotBlank(message = "Search query is required") String query,
             @Parameter(description = "Maximum results", example = "50")
-            @RequestParam(defaultValue = "50") int limit) {
+            @RequestParam(defaultValue = "50") int limit,
+            WebRequest webRequest) {
+        if (listNotModified(webRequest)) {
+            return null;
+        }
         
         log.debug("Searching customers with query: '{}', limit: {}", query, limit);
         
@@ -161,6 +260,24 @@ public class CustomerController {
                 "Search completed successfully. Found %d customers.".formatted(results.size())));
     }
 
+    @GetMapping("/basic")
+    @Operation(summary = "Get all customers basic info", description = "Retrieves ID and name of every customer")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customers basic info retrieved")
+    })
+    public ResponseEntity<DataResponse<List<IdNameResponse>>> getAllCustomersBasic(WebRequest webRequest) {
+        if (listNotModified(webRequest)) {
+            return null;
+        }
+        log.debug("Fetching basic info for all customers");
+
+        List<IdNameResponse> customers = customerService.getAllCustomersBasic();
+
+        log.debug("Found {} customers", customers.size());
+        return ResponseEntity.ok(DataResponse.success(customers,
+                "Found %d customers".formatted(customers.size())));
+    }
+
     @GetMapping("/{id}/basic")
     @Operation(summary = "Get customer basic info", description = "Retrieves basic customer information (ID and name only)")
     @ApiResponses(value = {
@@ -172,8 +289,7 @@ public class CustomerController {
             @PathVariable @NotBlank(message = "Customer ID is required") String id) {
         log.debug("Fetching basic info for customer ID: {}", id);
         
-        CustomerDTO customer = customerService.getCustomerById(id);
-        IdNameResponse basicInfo = IdNameResponse.fromCustomer(customer.getId(), customer.getName());
+        IdNameResponse basicInfo = customerService.getCustomerBasicInfo(id);
         
         return ResponseEntity.ok(DataResponse.success(basicInfo, "Customer basic info retrieved successfully"));
     }
@@ -192,12 +308,50 @@ public class CustomerController {
         return ResponseEntity.ok(DataResponse.success(count, "Customer count retrieved successfully"));
     }
 
+    @GetMapping("/stats")
+    @Operation(summary = "Get customer statistics", description = "Returns total, per-status and per-join-month customer counts")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customer statistics retrieved")
+    })
+    public ResponseEntity<DataResponse<CustomerStatsResponse>> getCustomerStats() {
+        log.debug("Fetching customer statistics");
+
+        CustomerStatsResponse stats = customerService.getCustomerStats();
+
+        return ResponseEntity.ok(DataResponse.success(stats, "Customer statistics retrieved successfully"));
+    }
+
+    @GetMapping("/stats/join-histogram")
+    @Operation(summary = "Get join-date histogram",
+            description = "Returns customer join counts per day, week or month, split by status, for whole periods up to today")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Join histogram retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid interval or date range")
+    })
+    public ResponseEntity<DataResponse<JoinHistogramResponse>> getJoinHistogram(
+            @Parameter(description = "Bucket width (day, week or month)", example = "month")
+            @RequestParam(defaultValue = "month") String interval,
+            @Parameter(description = "Start date (inclusive)", example = "2025-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (inclusive)", example = "2025-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        HistogramInterval histogramInterval = HistogramInterval.fromString(interval);
+        log.debug("Fetching {} join histogram from {} to {}", histogramInterval, startDate, endDate);
+
+        JoinHistogramResponse histogram = joinDateHistogram.histogram(histogramInterval, startDate, endDate);
+
+        return ResponseEntity.ok(DataResponse.success(histogram, "Join histogram retrieved successfully"));
+    }
+
     @GetMapping("/active")
     @Operation(summary = "Get active customers", description = "Retrieves all active customers")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Active customers retrieved successfully")
     })
-    public ResponseEntity<DataResponse<List<CustomerDTO>>> getActiveCustomers() {
+    public ResponseEntity<DataResponse<List<CustomerDTO>>> getActiveCustomers(WebRequest webRequest) {
+        if (listNotModified(webRequest)) {
+            return null;
+        }
         log.debug("Fetching active customers");
         
         List<CustomerDTO> activeCustomers = customerService.getActiveCustomers();
@@ -207,6 +361,51 @@ public class CustomerController {
                 "Found %d active customers".formatted(activeCustomers.size())));
     }
 
+    @GetMapping("/active/basic")
+    @Operation(summary = "Get active customers basic info", description = "Retrieves ID, name and phone of every active customer")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Active customers basic info retrieved")
+    })
+    public ResponseEntity<DataResponse<List<IdNamePhoneResponse>>> getActiveCustomersBasic(WebRequest webRequest) {
+        if (listNotModified(webRequest)) {
+            return null;
+        }
+        log.debug("Fetching basic info for active customers");
+
+        List<IdNamePhoneResponse> customers = customerService.getActiveCustomersBasic();
+
+        log.debug("Found {} active customers", customers.size());
+        return ResponseEntity.ok(DataResponse.success(customers,
+                "Found %d active customers".formatted(customers.size())));
+    }
+
+    @GetMapping("/birthdays/upcoming")
+    @Operation(summary = "Get upcoming birthdays",
+            description = "Retrieves customers whose birthday falls within the next N days (today included), soonest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Upcoming birthdays retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Window outside 1-366 days")
+    })
+    public ResponseEntity<DataResponse<Page<CustomerDTO>>> getUpcomingBirthdays(
+            @Parameter(description = "Window length in days, today included", example = "7")
+            @RequestParam(defaultValue = "7") int days,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            WebRequest webRequest) {
+        if (listNotModified(webRequest)) {
+            return null;
+        }
+        log.debug("Fetching birthdays in the next {} days - page: {}, size: {}", days, page, size);
+
+        Page<CustomerDTO> birthdays = customerService.getUpcomingBirthdays(days, PageRequest.of(page, size));
+
+        log.debug("Found {} upcoming birthdays", birthdays.getTotalElements());
+        return ResponseEntity.ok(DataResponse.success(birthdays,
+                "Found %d upcoming birthdays".formatted(birthdays.getTotalElements())));
+    }
+
     @GetMapping("/search/advanced")
     @Operation(summary = "Advanced search", description = "Searches customers by name or phone number")
     @ApiResponses(value = {
@@ -214,7 +413,11 @@ public class CustomerController {
     })
     public ResponseEntity<DataResponse<List<CustomerDTO>>> advancedSearch(
             @Parameter(description = "Search query", example = "john")
-            @RequestParam @NotBlank(message = "Search query is required") String query) {
+            @RequestParam @NotBlank(message = "Search query is required") String query,
+            WebRequest webRequest) {
+        if (listNotModified(webRequest)) {
+            return null;
+        }
         
         log.debug("Advanced search with query: '{}'", query);
         
@@ -232,7 +435,11 @@ public class CustomerController {
     })
     public ResponseEntity<DataResponse<List<CustomerDTO>>> getCustomersByStatus(
             @Parameter(description = "Customer status", example = "ACTIVE")
-            @PathVariable @NotBlank(message = "Status is required") String status) {
+            @PathVariable @NotBlank(message = "Status is required") String status,
+            WebRequest webRequest) {
+        if (listNotModified(webRequest)) {
+            return null;
+        }
         
         log.debug("Fetching customers with status: {}", status);
         
@@ -260,4 +467,79 @@ public class CustomerController {
         return ResponseEntity.ok(DataResponse.success(count,
                 "Found %d customers with status: %s".formatted(count, status)));
     }
+
+    @GetMapping("/export/active")
+    @Operation(summary = "Export active customers", description = "Streams all active customers as NDJSON or CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported export format")
+    })
+    public ResponseEntity<StreamingResponseBody> exportActiveCustomers(
+            @Parameter(description = "Export format (ndjson or csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        return exportCustomersByStatus("ACTIVE", format);
+    }
+
+    @GetMapping("/export/by-status/{status}")
+    @Operation(summary = "Export customers by status", description = "Streams customers with the given status as NDJSON or CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported export format")
+    })
+    public ResponseEntity<StreamingResponseBody> exportCustomersByStatus(
+            @Parameter(description = "Customer status", example = "ACTIVE")
+            @PathVariable @NotBlank(message = "Status is required") String status,
+            @Parameter(description = "Export format (ndjson or csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        log.debug("Exporting customers with status: {} as {}", status, exportFormat);
+
+        return streaming(exportFormat, "customers-" + status.toLowerCase(),
+                out -> customerExportService.exportCustomersByStatus(status, exportFormat, out));
+    }
+
+    @GetMapping("/export/by-join-date")
+    @Operation(summary = "Export customers by join date", description = "Streams customers who joined between two dates as NDJSON or CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range or export format")
+    })
+    public ResponseEntity<StreamingResponseBody> exportCustomersByJoinDate(
+            @Parameter(description = "Start date (exclusive)", example = "2025-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (exclusive)", example = "2025-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Export format (ndjson or csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        log.debug("Exporting customers joined between {} and {} as {}", startDate, endDate, exportFormat);
+
+        return streaming(exportFormat, "customers-" + startDate + "-" + endDate,
+                out -> customerExportService.exportCustomersByJoinDateRange(startDate, endDate, exportFormat, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> streaming(ExportFormat format, String fileName,
+                                                            StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /** Strong ETag for one customer, derived from its stored version. */
+    private static String customerETag(CustomerDTO customer) {
+        return "\"" + customer.getId() + "-" + (customer.getVersion() != null ? customer.getVersion() : 0) + "\"";
+    }
+
+    /**
+     * Checks If-None-Match against the current list ETag before any query runs. When it
+     * matches the response is already a 304 and the handler returns no body; otherwise the
+     * ETag header is set on the response that follows.
+     */
+    private boolean listNotModified(WebRequest webRequest) {
+        return webRequest.checkNotModified(customerWriteEpoch.listETag());
+    }
 }
@@ -0,0 +1,102 @@
+package com.rosebeauticare.rosebeauticare.Controller;
+
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Response.Customer.DataResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNameResponse;
+import com.rosebeauticare.rosebeauticare.Service.ReactiveCustomerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v2/customers")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnProperty(name = "rosebeauticare.api.v2.enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Customer Management (v2)", description = "Non-blocking customer reads on the reactive MongoDB driver")
+public class CustomerReactiveController {
+
+    private final ReactiveCustomerService customerService;
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get customer by ID", description = "Retrieves customer details by their unique ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customer found",
+            content = @Content(schema = @Schema(implementation = CustomerDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Customer not found")
+    })
+    public Mono<DataResponse<CustomerDTO>> getCustomerById(
+            @Parameter(description = "Customer ID", example = "CUST001")
+            @PathVariable @NotBlank(message = "Customer ID is required") String id) {
+        return customerService.getCustomerById(id)
+                .map(customer -> DataResponse.success(customer, "Customer retrieved successfully"));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search customers", description = "Searches customers by name using case-insensitive matching")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search completed successfully")
+    })
+    public Mono<DataResponse<List<CustomerDTO>>> searchCustomers(
+            @Parameter(description = "Search query", example = "john")
+            @RequestParam @NotBlank(message = "Search query is required") String query,
+            @Parameter(description = "Maximum results", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        return customerService.searchCustomers(query, limit)
+                .collectList()
+                .map(results -> DataResponse.success(results,
+                        "Search completed successfully. Found %d customers.".formatted(results.size())));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all customers", description = "Retrieves a paginated list of all customers")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customers retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported sort field")
+    })
+    public Mono<DataResponse<Page<IdNameResponse>>> getAllCustomers(
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort field (name or joinDate)", example = "name")
+            @RequestParam(defaultValue = "name") String sortBy,
+            @Parameter(description = "Sort direction", example = "ASC")
+            @RequestParam(defaultValue = "ASC") String sortDir) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(sortDir), sortBy));
+        return customerService.getAllCustomersPaginated(pageable)
+                .map(customers -> DataResponse.success(customers, "Customers retrieved successfully"));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream customers",
+            description = "Streams every customer, optionally filtered by status, as NDJSON while the cursor is read")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customers streamed successfully")
+    })
+    public Flux<CustomerDTO> streamCustomers(
+            @Parameter(description = "Customer status", example = "ACTIVE")
+            @RequestParam(required = false) String status) {
+        log.debug("Streaming customers with status: {}", status);
+        return customerService.streamCustomers(status);
+    }
+}
@@ -0,0 +1,17 @@
+package com.rosebeauticare.rosebeauticare.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCustomerUpdateDTO {
+    private String id;
+
+    /** Fields to change; null fields are left untouched. */
+    private CustomerDTO changes;
+}
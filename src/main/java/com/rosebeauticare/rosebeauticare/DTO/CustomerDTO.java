@@ -52,4 +52,7 @@ public class CustomerDTO {
     // Audit fields
     private Date createdAt;
     private Date updatedAt;
+
+    /** Stored version, read-only; changes whenever the customer is written. */
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.rosebeauticare.rosebeauticare.Event;
+
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the customer write paths after a document has been stored or removed.
+ * {@code previous} is a snapshot taken before the change (null on create) and
+ * {@code current} is the stored document (null on delete).
+ */
+@Getter
+@AllArgsConstructor
+public class CustomerChangedEvent {
+    private final Customer previous;
+    private final Customer current;
+
+    public static CustomerChangedEvent created(Customer customer) {
+        return new CustomerChangedEvent(null, customer);
+    }
+
+    public static CustomerChangedEvent updated(Customer previous, Customer current) {
+        return new CustomerChangedEvent(previous, current);
+    }
+
+    public static CustomerChangedEvent deleted(Customer customer) {
+        return new CustomerChangedEvent(customer, null);
+    }
+
+    public String getCustomerId() {
+        return current != null ? current.getId() : previous.getId();
+    }
+
+    public boolean isDelete() {
+        return current == null;
+    }
+}
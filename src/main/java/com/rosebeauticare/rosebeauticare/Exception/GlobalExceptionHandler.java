@@ -2,6 +2,8 @@ package com.rosebeauticare.rosebeauticare.Exception;
 
 import com.rosebeauticare.rosebeauticare.Response.Customer.DataResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -51,6 +53,26 @@ public class GlobalExceptionHandler {
                 .body(DataResponse.failure("Business rule violation"));
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<DataResponse<ErrorResponse>> handleRateLimitExceeded(
+            RateLimitExceededException ex, WebRequest request) {
+        log.warn("Rate limit exceeded: {} - {}", ex.getMessage(), request.getDescription(false));
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(DataResponse.failure(ex.getMessage()));
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<DataResponse<ErrorResponse>> handleServiceBusy(
+            ServiceBusyException ex, WebRequest request) {
+        log.warn("Service busy: {} - {}", ex.getMessage(), request.getDescription(false));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(DataResponse.failure(ex.getMessage()));
+    }
+
     @ExceptionHandler(DuplicateCustomerException.class)
     public ResponseEntity<DataResponse<ErrorResponse>> handleDuplicateCustomer(
             DuplicateCustomerException ex, WebRequest request) {
@@ -68,6 +90,15 @@ public class GlobalExceptionHandler {
                 .body(DataResponse.failure("Customer already exists"));
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<DataResponse<ErrorResponse>> handleConcurrentModification(
+            OptimisticLockingFailureException ex, WebRequest request) {
+        log.warn("Concurrent modification: {} - {}", ex.getMessage(), request.getDescription(false));
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(DataResponse.failure("Customer was modified concurrently, reload and retry"));
+    }
+
     @ExceptionHandler(InvalidRequestException.class)
     public ResponseEntity<DataResponse<ErrorResponse>> handleInvalidRequest(
             InvalidRequestException ex, WebRequest request) {
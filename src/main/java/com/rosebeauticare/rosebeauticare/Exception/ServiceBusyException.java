@@ -0,0 +1,14 @@
+package com.rosebeauticare.rosebeauticare.Exception;
+
+public class ServiceBusyException extends BusinessException {
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,444 @@
+package com.rosebeauticare.rosebeauticare.Index;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNameResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Fully resident id/name/status directory of every customer, so the id/name read
+ * endpoints are served without touching MongoDB.
+ *
+ * <p>Customers live in parallel slot arrays (id, name, status code). Ids are located
+ * through an open-addressing {@code int[]} table, statuses are dictionary-encoded into
+ * one byte, and an {@code int[]} of slots kept in (name, id) order serves paged listings.
+ * Names compare with the English secondary-strength collation of the {@code name_id_ci}
+ * index, so a page reads the same whether it comes from here or from MongoDB. The startup
+ * load fills the slots and sorts the name order once.
+ *
+ * <p>The directory only sees writes made through this instance and is never reloaded, so
+ * it is off by default ({@code rosebeauticare.directory.enabled}) and meant for
+ * single-instance deployments, like the trigram index. Lookups that miss still fall back
+ * to MongoDB.
+ */
+@Slf4j
+@Component
+public class CustomerDirectory {
+
+    private static final int EMPTY = 0;
+    private static final int TOMBSTONE = -1;
+    /** Approximate heap cost of a String beyond its characters (object header, fields, array header). */
+    private static final int STRING_OVERHEAD = 40;
+    /** Case-insensitive, accent-sensitive like {@code {locale: 'en', strength: 2}}; compare is synchronized. */
+    private static final Collator NAME_ORDER = nameOrder();
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private String[] ids = new String[1024];
+    private String[] names = new String[1024];
+    private byte[] statusCodes = new byte[1024];
+    private final List<String> statusDictionary = new ArrayList<>(List.of(""));
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+
+    private int[] table = new int[2048];
+    private int tableUsed;
+
+    private int[] byName = new int[1024];
+    /** False while a load defers name ordering; {@link #byName} is then rebuilt in one sort. */
+    private boolean nameOrdered = true;
+    private int size;
+    private long stringBytes;
+    private volatile boolean ready;
+
+    public CustomerDirectory(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+                             @Value("${rosebeauticare.directory.enabled:false}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        Gauge.builder("rosebeauticare.directory.customers", this, CustomerDirectory::size)
+                .description("Customers held in the resident directory")
+                .register(meterRegistry);
+        Gauge.builder("rosebeauticare.directory.bytes", this, CustomerDirectory::estimatedFootprintBytes)
+                .description("Estimated heap footprint of the resident directory")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Query query = new Query();
+        query.fields().include("name").include("status");
+        query.cursorBatchSize(2000);
+        deferNameOrder();
+        try (Stream<Customer> customers = mongoTemplate.stream(query, Customer.class)) {
+            customers.forEach(customer -> put(customer.getId(), customer.getName(), customer.getStatus()));
+            sortNameOrder();
+            ready = true;
+            log.info("Customer directory loaded {} customers ({} KB) in {} ms",
+                    size(), estimatedFootprintBytes() / 1024, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            sortNameOrder();
+            log.error("Failed to load customer directory, id/name reads stay on MongoDB", e);
+        }
+    }
+
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.isDelete()) {
+            remove(event.getCustomerId());
+        } else {
+            Customer current = event.getCurrent();
+            put(current.getId(), current.getName(), current.getStatus());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Optional<IdNameResponse> find(String id) {
+        if (!ready || id == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            int slot = slotOf(id);
+            return slot < 0 ? Optional.empty() : Optional.of(IdNameResponse.fromCustomer(ids[slot], names[slot]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<IdNameResponse> findAll() {
+        lock.readLock().lock();
+        try {
+            List<IdNameResponse> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(IdNameResponse.of(ids[byName[i]], names[byName[i]]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether {@link #findPage} can serve this request: only unsorted or name-sorted pages are kept.
+     */
+    public boolean canServe(Pageable pageable) {
+        if (!ready) {
+            return false;
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!"name".equals(order.getProperty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Page<IdNameResponse> findPage(Pageable pageable) {
+        Sort.Order order = pageable.getSort().getOrderFor("name");
+        boolean descending = order != null && order.isDescending();
+        lock.readLock().lock();
+        try {
+            long from = Math.min(pageable.getOffset(), size);
+            int to = (int) Math.min(from + pageable.getPageSize(), size);
+            List<IdNameResponse> content = new ArrayList<>(to - (int) from);
+            for (int i = (int) from; i < to; i++) {
+                int slot = byName[descending ? size - 1 - i : i];
+                content.add(IdNameResponse.of(ids[slot], names[slot]));
+            }
+            return new PageImpl<>(content, pageable, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedFootprintBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) ids.length * 4 + (long) names.length * 4 + statusCodes.length
+                    + (long) table.length * 4 + (long) byName.length * 4 + (long) freeSlots.length * 4
+                    + stringBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(String id, String name, String status) {
+        if (id == null || name == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            byte code = statusCode(status);
+            int slot = slotOf(id);
+            if (slot >= 0) {
+                statusCodes[slot] = code;
+                if (names[slot].equals(name)) {
+                    return;
+                }
+                unlink(slot);
+                stringBytes += name.length() - names[slot].length();
+                names[slot] = name;
+                link(slot);
+                return;
+            }
+
+            slot = allocateSlot();
+            ids[slot] = id;
+            names[slot] = name;
+            statusCodes[slot] = code;
+            stringBytes += 2L * STRING_OVERHEAD + id.length() + name.length();
+            insertIntoTable(id, slot);
+            link(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            int position = tablePosition(id);
+            if (position < 0) {
+                return;
+            }
+            int slot = table[position] - 1;
+            table[position] = TOMBSTONE;
+            unlink(slot);
+            stringBytes -= 2L * STRING_OVERHEAD + ids[slot].length() + names[slot].length();
+            ids[slot] = null;
+            names[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == ids.length) {
+            int capacity = slotCount * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            statusCodes = Arrays.copyOf(statusCodes, capacity);
+            byName = Arrays.copyOf(byName, capacity);
+        }
+        return slotCount++;
+    }
+
+    private byte statusCode(String status) {
+        String value = status != null ? status : "";
+        int code = statusDictionary.indexOf(value);
+        if (code < 0) {
+            if (statusDictionary.size() == Byte.MAX_VALUE) {
+                return 0;
+            }
+            statusDictionary.add(value);
+            code = statusDictionary.size() - 1;
+        }
+        return (byte) code;
+    }
+
+    private int slotOf(String id) {
+        int position = tablePosition(id);
+        return position < 0 ? -1 : table[position] - 1;
+    }
+
+    private int tablePosition(String id) {
+        int mask = table.length - 1;
+        for (int i = mix(id.hashCode()) & mask; ; i = (i + 1) & mask) {
+            int entry = table[i];
+            if (entry == EMPTY) {
+                return -1;
+            }
+            if (entry != TOMBSTONE && ids[entry - 1].equals(id)) {
+                return i;
+            }
+        }
+    }
+
+    private void insertIntoTable(String id, int slot) {
+        if ((tableUsed + 1) * 2 > table.length) {
+            rehash();
+        }
+        int mask = table.length - 1;
+        int i = mix(id.hashCode()) & mask;
+        while (table[i] != EMPTY && table[i] != TOMBSTONE) {
+            i = (i + 1) & mask;
+        }
+        if (table[i] == EMPTY) {
+            tableUsed++;
+        }
+        table[i] = slot + 1;
+    }
+
+    private void rehash() {
+        int[] old = table;
+        int capacity = Integer.highestOneBit(Math.max(size * 4, 2048));
+        table = new int[capacity];
+        tableUsed = 0;
+        int mask = capacity - 1;
+        for (int entry : old) {
+            if (entry > 0) {
+                int i = mix(ids[entry - 1].hashCode()) & mask;
+                while (table[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = entry;
+                tableUsed++;
+            }
+        }
+    }
+
+    private void deferNameOrder() {
+        lock.writeLock().lock();
+        try {
+            nameOrdered = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the name order from every live slot with a single sort and resumes sorted inserts.
+     */
+    private void sortNameOrder() {
+        lock.writeLock().lock();
+        try {
+            if (nameOrdered) {
+                return;
+            }
+            int count = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (ids[slot] != null) {
+                    byName[count++] = slot;
+                }
+            }
+            int[] sorted = Arrays.stream(byName, 0, count).boxed()
+                    .sorted(this::compare)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            System.arraycopy(sorted, 0, byName, 0, count);
+            nameOrdered = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Adds {@code slot} to the name order, or only counts it while a load defers ordering. */
+    private void link(int slot) {
+        if (nameOrdered) {
+            insertIntoNameOrder(slot);
+        } else {
+            size++;
+        }
+    }
+
+    private void unlink(int slot) {
+        if (nameOrdered) {
+            removeFromNameOrder(slot);
+        } else {
+            size--;
+        }
+    }
+
+    private void insertIntoNameOrder(int slot) {
+        int position = -namePosition(slot) - 1;
+        System.arraycopy(byName, position, byName, position + 1, size - position);
+        byName[position] = slot;
+        size++;
+    }
+
+    private void removeFromNameOrder(int slot) {
+        int position = namePosition(slot);
+        System.arraycopy(byName, position + 1, byName, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * Binary search over the name order for {@code slot}; returns its index, or
+     * {@code -(insertion point) - 1} when absent.
+     */
+    private int namePosition(int slot) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int other = byName[mid];
+            if (other == slot) {
+                return mid;
+            }
+            int cmp = compare(other, slot);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int compare(int left, int right) {
+        int cmp = NAME_ORDER.compare(names[left], names[right]);
+        return cmp != 0 ? cmp : Objects.compare(ids[left], ids[right], String::compareTo);
+    }
+
+    private static Collator nameOrder() {
+        Collator collator = Collator.getInstance(Locale.ENGLISH);
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,263 @@
+package com.rosebeauticare.rosebeauticare.Index;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process trigram index over customer names, answering case-insensitive substring
+ * queries without a collection scan. Each customer gets a dense document number and every
+ * trigram maps to a sorted {@code int[]} posting list of those numbers; a query intersects
+ * the posting lists of its trigrams and verifies the survivors against the stored names.
+ *
+ * <p>The index only sees writes made through this instance, so it is opt-in
+ * ({@code rosebeauticare.search.trigram.enabled}) for single-instance deployments.
+ */
+@Slf4j
+@Component
+public class NameTrigramIndex {
+
+    private static final int GRAM = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> docByCustomerId = new HashMap<>();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private String[] customerIds = new String[1024];
+    private String[] names = new String[1024];
+    private int nextDoc;
+    private volatile boolean ready;
+
+    public NameTrigramIndex(MongoTemplate mongoTemplate,
+                            @Value("${rosebeauticare.search.trigram.enabled:false}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Query query = new Query();
+        query.fields().include("name");
+        query.cursorBatchSize(1000);
+        try (Stream<Customer> customers = mongoTemplate.stream(query, Customer.class)) {
+            customers.forEach(customer -> put(customer.getId(), customer.getName()));
+            ready = true;
+            log.info("Name trigram index built with {} customers and {} trigrams in {} ms",
+                    size(), postings.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to build name trigram index, name search stays on MongoDB", e);
+        }
+    }
+
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.isDelete()) {
+            remove(event.getCustomerId());
+        } else {
+            put(event.getCurrent().getId(), event.getCurrent().getName());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Finds customers whose name contains {@code query}, ignoring case.
+     *
+     * @return matching customer ids in index order, or empty when the index cannot answer
+     *         (not built, or the query is shorter than one trigram)
+     */
+    public Optional<List<String>> search(String query, int limit) {
+        if (!ready || query == null) {
+            return Optional.empty();
+        }
+        String needle = normalize(query);
+        if (needle.length() < GRAM) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            long[] grams = trigrams(needle);
+            PostingList[] lists = new PostingList[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return Optional.of(List.of());
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            List<String> result = new ArrayList<>();
+            PostingList smallest = lists[0];
+            for (int i = 0; i < smallest.size; i++) {
+                int doc = smallest.docs[i];
+                if (containsAll(lists, doc) && names[doc].contains(needle)) {
+                    result.add(customerIds[doc]);
+                    if (limit > 0 && result.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByCustomerId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(String customerId, String name) {
+        if (customerId == null || name == null) {
+            return;
+        }
+        String normalized = normalize(name);
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByCustomerId.get(customerId);
+            int doc;
+            if (existing != null) {
+                doc = existing;
+                if (names[doc].equals(normalized)) {
+                    return;
+                }
+                for (long gram : trigrams(names[doc])) {
+                    removePosting(gram, doc);
+                }
+            } else {
+                doc = nextDoc++;
+                ensureCapacity(doc + 1);
+                customerIds[doc] = customerId;
+                docByCustomerId.put(customerId, doc);
+            }
+            names[doc] = normalized;
+            for (long gram : trigrams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new PostingList()).add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String customerId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByCustomerId.remove(customerId);
+            if (doc == null) {
+                return;
+            }
+            for (long gram : trigrams(names[doc])) {
+                removePosting(gram, doc);
+            }
+            customerIds[doc] = null;
+            names[doc] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removePosting(long gram, int doc) {
+        PostingList list = postings.get(gram);
+        if (list != null && list.remove(doc) && list.size == 0) {
+            postings.remove(gram);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > customerIds.length) {
+            int newLength = Math.max(capacity, customerIds.length * 2);
+            customerIds = Arrays.copyOf(customerIds, newLength);
+            names = Arrays.copyOf(names, newLength);
+        }
+    }
+
+    private static boolean containsAll(PostingList[] lists, int doc) {
+        for (int i = 1; i < lists.length; i++) {
+            if (Arrays.binarySearch(lists[i].docs, 0, lists[i].size, doc) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long[] trigrams(String value) {
+        if (value.length() < GRAM) {
+            return new long[0];
+        }
+        long[] grams = new long[value.length() - GRAM + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /**
+     * Sorted, growable array of document numbers.
+     */
+    private static final class PostingList {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            int position = Arrays.binarySearch(docs, 0, size, doc);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            System.arraycopy(docs, position, docs, position + 1, size - position);
+            docs[position] = doc;
+            size++;
+        }
+
+        boolean remove(int doc) {
+            int position = Arrays.binarySearch(docs, 0, size, doc);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(docs, position + 1, docs, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+}
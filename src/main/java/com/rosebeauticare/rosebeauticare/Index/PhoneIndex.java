@@ -0,0 +1,333 @@
+package com.rosebeauticare.rosebeauticare.Index;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Digit-level substring index over the registered 10-digit phone numbers.
+ *
+ * <p>Each phone is encoded as a {@code long} and kept in two sorted primitive arrays: one
+ * in natural digit order (prefix lookups are a range scan) and one with the digits
+ * reversed (suffix lookups, such as the last four digits, are a range scan too). Infix
+ * matches fall back to a linear pass over the primitive array. Matching phones are then
+ * fetched from MongoDB through the unique phone index.
+ *
+ * <p>The startup load collects every phone first and sorts each array once; the sorted
+ * inserts and removals below only serve the change events that follow.
+ *
+ * <p>Heap footprint is 16 bytes per phone, about 16 MB per million customers, plus a
+ * transient copy of one array while it grows.
+ */
+@Slf4j
+@Component
+public class PhoneIndex {
+
+    static final int PHONE_DIGITS = 10;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long[] POWERS_OF_TEN = new long[PHONE_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= PHONE_DIGITS; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int maxMatches;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] phones = new long[INITIAL_CAPACITY];
+    private long[] reversedPhones = new long[INITIAL_CAPACITY];
+    private int size;
+    private volatile boolean ready;
+
+    public PhoneIndex(MongoTemplate mongoTemplate,
+                      @Value("${rosebeauticare.search.phone-index.enabled:false}") boolean enabled,
+                      @Value("${rosebeauticare.search.phone-index.max-matches:500}") int maxMatches) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.maxMatches = maxMatches;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Query query = new Query();
+        query.fields().include("phone").exclude("_id");
+        query.cursorBatchSize(5000);
+        try (Stream<Customer> customers = mongoTemplate.stream(query, Customer.class)) {
+            long[] loaded = new long[INITIAL_CAPACITY];
+            int count = 0;
+            Iterator<Customer> iterator = customers.iterator();
+            while (iterator.hasNext()) {
+                String phone = iterator.next().getPhone();
+                if (phone == null || phone.length() != PHONE_DIGITS || !isDigits(phone)) {
+                    continue;
+                }
+                if (count == loaded.length) {
+                    loaded = Arrays.copyOf(loaded, count * 2);
+                }
+                loaded[count++] = Long.parseLong(phone);
+            }
+            replaceAll(loaded, count);
+            ready = true;
+            log.info("Phone index built with {} phones in {} ms", size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to build phone index, phone search stays on MongoDB", e);
+        }
+    }
+
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        String before = event.getPrevious() != null ? event.getPrevious().getPhone() : null;
+        String after = event.getCurrent() != null ? event.getCurrent().getPhone() : null;
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null) {
+            remove(before);
+        }
+        if (after != null) {
+            add(after);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public static boolean isDigits(String value) {
+        if (value == null || value.isEmpty() || value.length() > PHONE_DIGITS) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds registered phones containing {@code digits}, ranked prefix matches first, then
+     * suffix matches, then matches anywhere else.
+     *
+     * @return matching phones, or empty when the index is not ready, the query is not 1-10
+     *         digits, or more than the configured maximum match and the caller should query
+     *         MongoDB for the full result instead
+     */
+    public Optional<List<String>> findPhonesContaining(String digits) {
+        if (!ready || !isDigits(digits)) {
+            return Optional.empty();
+        }
+        int length = digits.length();
+        long value = Long.parseLong(digits);
+        long span = POWERS_OF_TEN[PHONE_DIGITS - length];
+        // One past the maximum tells a complete answer from a truncated one
+        int limit = maxMatches + 1;
+        Set<Long> matches = new LinkedHashSet<>();
+
+        lock.readLock().lock();
+        try {
+            collectRange(phones, value * span, (value + 1) * span, false, matches, limit);
+            if (matches.size() < limit) {
+                long reversed = reverse(value, length);
+                collectRange(reversedPhones, reversed * span, (reversed + 1) * span, true, matches, limit);
+            }
+            if (matches.size() < limit && length < PHONE_DIGITS - 1) {
+                long window = POWERS_OF_TEN[length];
+                for (int i = 0; i < size && matches.size() < limit; i++) {
+                    long phone = phones[i];
+                    for (int shift = 1; shift < PHONE_DIGITS - length; shift++) {
+                        if ((phone / POWERS_OF_TEN[shift]) % window == value) {
+                            matches.add(phone);
+                            break;
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (matches.size() > maxMatches) {
+            return Optional.empty();
+        }
+
+        List<String> result = new ArrayList<>(matches.size());
+        for (long phone : matches) {
+            result.add(format(phone));
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Exact membership test.
+     *
+     * @return empty when the index cannot answer, otherwise whether the phone is registered
+     */
+    public Optional<Boolean> contains(String phone) {
+        if (!ready || phone == null || phone.length() != PHONE_DIGITS || !isDigits(phone)) {
+            return Optional.empty();
+        }
+        long value = Long.parseLong(phone);
+        lock.readLock().lock();
+        try {
+            return Optional.of(Arrays.binarySearch(phones, 0, size, value) >= 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Installs the {@code count} phones in {@code loaded} (unsorted, possibly repeated) with one
+     * sort per array, keeping any phones that change events added while MongoDB was being read.
+     */
+    private void replaceAll(long[] loaded, int count) {
+        lock.writeLock().lock();
+        try {
+            if (count + size > loaded.length) {
+                loaded = Arrays.copyOf(loaded, count + size);
+            }
+            System.arraycopy(phones, 0, loaded, count, size);
+            count += size;
+            Arrays.sort(loaded, 0, count);
+            int distinct = 0;
+            for (int i = 0; i < count; i++) {
+                if (distinct == 0 || loaded[i] != loaded[distinct - 1]) {
+                    loaded[distinct++] = loaded[i];
+                }
+            }
+            int capacity = Math.max(INITIAL_CAPACITY, loaded.length);
+            long[] reversed = new long[capacity];
+            for (int i = 0; i < distinct; i++) {
+                reversed[i] = reverse(loaded[i], PHONE_DIGITS);
+            }
+            Arrays.sort(reversed, 0, distinct);
+            phones = loaded.length == capacity ? loaded : Arrays.copyOf(loaded, capacity);
+            reversedPhones = reversed;
+            size = distinct;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void add(String phone) {
+        if (phone.length() != PHONE_DIGITS || !isDigits(phone)) {
+            return;
+        }
+        long value = Long.parseLong(phone);
+        lock.writeLock().lock();
+        try {
+            int position = Arrays.binarySearch(phones, 0, size, value);
+            if (position >= 0) {
+                return;
+            }
+            if (size == phones.length) {
+                phones = Arrays.copyOf(phones, size * 2);
+                reversedPhones = Arrays.copyOf(reversedPhones, size * 2);
+            }
+            insertAt(phones, -position - 1, value);
+            long reversed = reverse(value, PHONE_DIGITS);
+            insertAt(reversedPhones, -Arrays.binarySearch(reversedPhones, 0, size, reversed) - 1, reversed);
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String phone) {
+        if (phone.length() != PHONE_DIGITS || !isDigits(phone)) {
+            return;
+        }
+        long value = Long.parseLong(phone);
+        lock.writeLock().lock();
+        try {
+            int position = Arrays.binarySearch(phones, 0, size, value);
+            if (position < 0) {
+                return;
+            }
+            removeAt(phones, position);
+            removeAt(reversedPhones, Arrays.binarySearch(reversedPhones, 0, size, reverse(value, PHONE_DIGITS)));
+            size--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void collectRange(long[] sorted, long from, long to, boolean reversed, Set<Long> matches, int limit) {
+        int i = lowerBound(sorted, from);
+        for (; i < size && sorted[i] < to && matches.size() < limit; i++) {
+            matches.add(reversed ? reverse(sorted[i], PHONE_DIGITS) : sorted[i]);
+        }
+    }
+
+    private int lowerBound(long[] sorted, long value) {
+        int position = Arrays.binarySearch(sorted, 0, size, value);
+        if (position < 0) {
+            return -position - 1;
+        }
+        while (position > 0 && sorted[position - 1] == value) {
+            position--;
+        }
+        return position;
+    }
+
+    private void insertAt(long[] array, int position, long value) {
+        System.arraycopy(array, position, array, position + 1, size - position);
+        array[position] = value;
+    }
+
+    private void removeAt(long[] array, int position) {
+        System.arraycopy(array, position + 1, array, position, size - position - 1);
+    }
+
+    private static long reverse(long value, int digits) {
+        long reversed = 0;
+        for (int i = 0; i < digits; i++) {
+            reversed = reversed * 10 + value % 10;
+            value /= 10;
+        }
+        return reversed;
+    }
+
+    private static String format(long phone) {
+        String digits = Long.toString(phone);
+        return "0".repeat(PHONE_DIGITS - digits.length()) + digits;
+    }
+}
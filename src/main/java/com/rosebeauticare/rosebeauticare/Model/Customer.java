@@ -10,24 +10,42 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.text.Normalizer;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "customers")
+@CompoundIndexes({
+    @CompoundIndex(name = "name_id_ci", def = "{'name': 1, '_id': 1}", collation = "{'locale': 'en', 'strength': 2}"),
+    @CompoundIndex(name = "status_name_id_ci", def = "{'status': 1, 'name': 1, '_id': 1}",
+            collation = "{'locale': 'en', 'strength': 2}"),
+    @CompoundIndex(name = "joinDate_id", def = "{'joinDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "birthdayKey_id", def = "{'birthdayKey': 1, '_id': 1}")
+})
 public class Customer {
+    private static final java.util.regex.Pattern COMBINING_MARKS = java.util.regex.Pattern.compile("\\p{M}+");
+
     @Id
     private String id;
     
     @NotBlank(message = "Name is required")
     @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
     private String name;
+
+    /** Lowercase, accent-free form of {@link #name} kept for indexed prefix search. */
+    @Indexed
+    private String nameKey;
     
     @NotBlank(message = "Phone number is required")
     @Pattern(regexp = "\\d{10}", message = "Phone number must be exactly 10 digits")
@@ -54,6 +72,9 @@ public class Customer {
     
     private LocalDate dob;
     private Integer age;
+
+    /** Birthday as {@code month * 100 + day} (e.g. 1225), kept for upcoming-birthday range scans. */
+    private Integer birthdayKey;
     
     @Builder.Default
     private LocalDate joinDate = LocalDate.now();
@@ -64,9 +85,44 @@ public class Customer {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    /** Optimistic-locking version, bumped on every write; also the basis of the customer ETag. */
+    @Version
+    private Long version;
+
+    /**
+     * Recomputes the fields stored only for querying. Call before every save.
+     */
+    public void refreshDerivedFields() {
+        calculateAge();
+        nameKey = normalizeName(name);
+        birthdayKey = birthdayKey(dob);
+    }
+
+    public static Integer birthdayKey(LocalDate date) {
+        return date != null ? date.getMonthValue() * 100 + date.getDayOfMonth() : null;
+    }
+
+    /**
+     * Lowercases, strips accents and collapses whitespace, so "  José  Kumar" and
+     * "jose kumar" share a key.
+     */
+    public static String normalizeName(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
     public void calculateAge() {
+        calculateAge(LocalDate.now());
+    }
+
+    public void calculateAge(LocalDate now) {
         if (dob != null) {
-            LocalDate now = LocalDate.now();
             age = now.getYear() - dob.getYear();
             if (dob.plusYears(age).isAfter(now)) {
                 age--;
@@ -1,6 +1,9 @@
 package com.rosebeauticare.rosebeauticare.Repository;
 
 import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Repository.Projection.CustomerIdName;
+import com.rosebeauticare.rosebeauticare.Repository.Projection.CustomerIdNamePhone;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -8,6 +11,7 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,12 +21,19 @@ public interface CustomerRepository extends MongoRepository<Customer, String> {
     // Basic queries
     List<Customer> findAllByOrderByNameAsc();
     List<Customer> findByNameContainingIgnoreCase(String query);
+    List<Customer> findByNameContainingIgnoreCase(String query, Limit limit);
     boolean existsByPhone(String phone);
     Optional<Customer> findByPhone(String phone);
+    List<Customer> findByPhoneIn(Collection<String> phones);
     
     // Advanced queries with pagination
     Page<Customer> findAllByOrderByNameAsc(Pageable pageable);
     Page<Customer> findByNameContainingIgnoreCase(String query, Pageable pageable);
+    Page<CustomerIdName> findAllProjectedBy(Pageable pageable);
+    /** Id/name page sorted with the case-insensitive collation of the name_id_ci index. */
+    @Query(value = "{}", fields = "{'name': 1}", collation = "{'locale': 'en', 'strength': 2}")
+    Page<CustomerIdName> findAllProjectedByNameOrder(Pageable pageable);
+    Optional<CustomerIdName> findProjectedById(String id);
     
     // Status-based queries
     List<Customer> findByStatus(String status);
@@ -34,6 +45,7 @@ public interface CustomerRepository extends MongoRepository<Customer, String> {
     List<Customer> findByJoinDateAfter(LocalDate date);
     
     // Complex queries
+    // ?0 in the $regex queries is a pattern, so callers pass user input through Pattern.quote
     @Query("{'$or': [{'name': {'$regex': ?0, '$options': 'i'}}, {'phone': {'$regex': ?0, '$options': 'i'}}]}")
     List<Customer> findByNameOrPhoneContainingIgnoreCase(String query);
     
@@ -41,12 +53,13 @@ public interface CustomerRepository extends MongoRepository<Customer, String> {
     List<Customer> findByStatusAndJoinDateAfter(String status, LocalDate date);
     
     // Aggregation queries
-    @Query(value = "{}", fields = "{'id': 1, 'name': 1, '_id': 0}")
-    List<Customer> findAllBasicInfo();
+    @Query(value = "{}", fields = "{'name': 1}")
+    List<CustomerIdName> findAllBasicInfo();
     
     // Performance optimized queries
-    @Query(value = "{'status': 'ACTIVE'}", fields = "{'id': 1, 'name': 1, 'phone': 1}")
-    List<Customer> findActiveCustomersBasic();
+    @Query(value = "{'status': 'ACTIVE'}", fields = "{'name': 1, 'phone': 1}", sort = "{'name': 1, '_id': 1}",
+            collation = "{'locale': 'en', 'strength': 2}")
+    List<CustomerIdNamePhone> findActiveCustomersBasic();
     
     // Search with multiple criteria
     @Query("{'$and': [{'name': {'$regex': ?0, '$options': 'i'}}, {'status': ?1}]}")
@@ -0,0 +1,10 @@
+package com.rosebeauticare.rosebeauticare.Repository.Projection;
+
+/**
+ * Closed projection for id/name views; MongoDB returns only these fields.
+ */
+public interface CustomerIdName {
+    String getId();
+
+    String getName();
+}
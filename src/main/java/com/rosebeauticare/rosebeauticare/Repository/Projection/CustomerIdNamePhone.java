@@ -0,0 +1,8 @@
+package com.rosebeauticare.rosebeauticare.Repository.Projection;
+
+/**
+ * Closed projection for id/name/phone views; MongoDB returns only these fields.
+ */
+public interface CustomerIdNamePhone extends CustomerIdName {
+    String getPhone();
+}
@@ -0,0 +1,24 @@
+package com.rosebeauticare.rosebeauticare.Repository;
+
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Repository.Projection.CustomerIdName;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveCustomerRepository extends ReactiveMongoRepository<Customer, String> {
+
+    Flux<Customer> findByNameContainingIgnoreCase(String query, Limit limit);
+
+    Flux<CustomerIdName> findAllProjectedBy(Pageable pageable);
+
+    /** Id/name page sorted with the case-insensitive collation of the name_id_ci index. */
+    @Query(value = "{}", fields = "{'name': 1}", collation = "{'locale': 'en', 'strength': 2}")
+    Flux<CustomerIdName> findAllProjectedByNameOrder(Pageable pageable);
+
+    Flux<Customer> findByStatusOrderByNameAsc(String status);
+}
@@ -0,0 +1,49 @@
+package com.rosebeauticare.rosebeauticare.Response.Customer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkOperationResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private long elapsedMs;
+    private List<RowResult> results;
+
+    public static BulkOperationResponse of(List<RowResult> results, long elapsedMs) {
+        int succeeded = (int) results.stream().filter(RowResult::isSuccess).count();
+        return BulkOperationResponse.builder()
+                .total(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .elapsedMs(elapsedMs)
+                .results(results)
+                .build();
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RowResult {
+        private int index;
+        private String id;
+        private String status;
+        private String message;
+
+        public boolean isSuccess() {
+            return "CREATED".equals(status) || "UPDATED".equals(status);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.rosebeauticare.rosebeauticare.Response.Customer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerStatsResponse {
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byJoinMonth;
+    private LocalDateTime lastReconciledAt;
+}
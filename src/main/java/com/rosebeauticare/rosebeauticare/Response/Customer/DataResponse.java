@@ -23,51 +23,24 @@ public class DataResponse<T> {
     private String version;
     private PaginationInfo pagination;
 
+    public static final String VERSION = "1.0.0";
+
     public static <T> DataResponse<T> success(T data, String message) {
-        return DataResponse.<T>builder()
-                .success(true)
-                .data(data)
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .version("1.0.0")
-                .build();
+        return new DataResponse<>(true, data, message, ResponseClock.now(), null, VERSION, null);
     }
 
     public static <T> DataResponse<T> success(T data, String message, String requestId) {
-        return DataResponse.<T>builder()
-                .success(true)
-                .data(data)
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .requestId(requestId)
-                .version("1.0.0")
-                .build();
+        return new DataResponse<>(true, data, message, ResponseClock.now(), requestId, VERSION, null);
     }
 
     public static <T> DataResponse<T> failure(String message) {
-        return DataResponse.<T>builder()
-                .success(false)
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .version("1.0.0")
-                .build();
+        return new DataResponse<>(false, null, message, ResponseClock.now(), null, VERSION, null);
     }
 
     public static <T> DataResponse<List<T>> successWithPagination(List<T> data, String message, 
                                                                  int page, int size, long totalElements, int totalPages) {
-        return DataResponse.<List<T>>builder()
-                .success(true)
-                .data(data)
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .version("1.0.0")
-                .pagination(PaginationInfo.builder()
-                        .page(page)
-                        .size(size)
-                        .totalElements(totalElements)
-                        .totalPages(totalPages)
-                        .build())
-                .build();
+        return new DataResponse<>(true, data, message, ResponseClock.now(), null, VERSION,
+                new PaginationInfo(page, size, totalElements, totalPages));
     }
 
     @Data
@@ -0,0 +1,28 @@
+package com.rosebeauticare.rosebeauticare.Response.Customer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IdNamePhoneResponse {
+    private String id;
+
+    private String name;
+
+    private String phone;
+
+    public static IdNamePhoneResponse of(String id, String name, String phone) {
+        return IdNamePhoneResponse.builder()
+                .id(id)
+                .name(name)
+                .phone(phone)
+                .build();
+    }
+}
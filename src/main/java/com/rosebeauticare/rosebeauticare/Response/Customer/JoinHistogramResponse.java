@@ -0,0 +1,32 @@
+package com.rosebeauticare.rosebeauticare.Response.Customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JoinHistogramResponse {
+    private String interval;
+    private List<Bucket> buckets;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Bucket {
+        /** First day of the period. */
+        private LocalDate start;
+        /** First day of the next period (exclusive). */
+        private LocalDate end;
+        private long total;
+        private Map<String, Long> byStatus;
+    }
+}
@@ -0,0 +1,52 @@
+package com.rosebeauticare.rosebeauticare.Response.Customer;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Millisecond-resolution clock for response timestamps. Responses created within the same
+ * millisecond share one {@link LocalDateTime} and its ISO-8601 text, which is encoded to
+ * UTF-8 once when first written.
+ */
+public final class ResponseClock {
+
+    private static volatile Tick current = tick(System.currentTimeMillis());
+
+    private ResponseClock() {
+    }
+
+    public static LocalDateTime now() {
+        long millis = System.currentTimeMillis();
+        Tick tick = current;
+        if (tick.millis() != millis) {
+            tick = tick(millis);
+            current = tick;
+        }
+        return tick.time();
+    }
+
+    /**
+     * JSON string form of {@code time}, as Jackson writes a {@link LocalDateTime}; reused
+     * when {@code time} is the current tick.
+     */
+    public static SerializableString encode(LocalDateTime time) {
+        Tick tick = current;
+        if (tick.time().equals(time)) {
+            return tick.encoded();
+        }
+        return new SerializedString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time));
+    }
+
+    private static Tick tick(long millis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        return new Tick(millis, time, new SerializedString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time)));
+    }
+
+    private record Tick(long millis, LocalDateTime time, SerializedString encoded) {
+    }
+}
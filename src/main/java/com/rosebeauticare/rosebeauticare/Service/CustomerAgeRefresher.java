@@ -0,0 +1,181 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the stored {@code age} current. Ages only change on birthdays, so each run reads
+ * just the customers whose birthdayKey falls between the previous run and today, and
+ * rewrites the ones whose age is out of date in unordered {@code $set} batches. The first
+ * run after startup looks back a configurable period to cover any downtime.
+ *
+ * <p>Every instance runs the job; the writes are conditional on the stored age and date of
+ * birth, so a second run over the same customers changes nothing.
+ */
+@Slf4j
+@Component
+public class CustomerAgeRefresher {
+
+    private final MongoTemplate mongoTemplate;
+    private final CustomerBackfill customerBackfill;
+    private final CustomerWriteEpoch writeEpoch;
+    private final Cache customers;
+    private final boolean enabled;
+    private final Duration lookback;
+    private final int batchSize;
+    private final Timer duration;
+    private final Counter scanned;
+    private final Counter updated;
+    private volatile LocalDate lastRunDate;
+
+    public CustomerAgeRefresher(MongoTemplate mongoTemplate, CustomerBackfill customerBackfill,
+                                CustomerWriteEpoch writeEpoch, CacheManager cacheManager, MeterRegistry meterRegistry,
+                                @Value("${rosebeauticare.age-refresh.enabled:true}") boolean enabled,
+                                @Value("${rosebeauticare.age-refresh.lookback:P7D}") Duration lookback,
+                                @Value("${rosebeauticare.age-refresh.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.customerBackfill = customerBackfill;
+        this.writeEpoch = writeEpoch;
+        this.customers = Objects.requireNonNull(cacheManager.getCache("customers"), "customers cache");
+        this.enabled = enabled;
+        this.lookback = lookback;
+        this.batchSize = batchSize;
+        this.duration = Timer.builder("rosebeauticare.maintenance.age-refresh")
+                .description("Duration of the scheduled age recomputation")
+                .register(meterRegistry);
+        this.scanned = Counter.builder("rosebeauticare.maintenance.age-refresh.documents")
+                .description("Customers read or rewritten by the age recomputation")
+                .tag("result", "scanned")
+                .register(meterRegistry);
+        this.updated = Counter.builder("rosebeauticare.maintenance.age-refresh.documents")
+                .description("Customers read or rewritten by the age recomputation")
+                .tag("result", "updated")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${rosebeauticare.age-refresh.cron:0 15 0 * * *}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        if (!customerBackfill.isBirthdayKeyReady()) {
+            log.warn("Skipping age refresh, birthdayKey is not backfilled yet");
+            return;
+        }
+        try {
+            refresh(LocalDate.now());
+        } catch (RuntimeException e) {
+            log.warn("Age refresh failed, it is retried on the next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recomputes ages of customers with a birthday after the previous run, up to {@code today}.
+     *
+     * @return number of customers whose age was rewritten
+     */
+    public synchronized long refresh(LocalDate today) {
+        LocalDate from = lastRunDate != null
+                ? lastRunDate.plusDays(1)
+                : today.minusDays(Math.max(0, lookback.toDays()));
+        if (from.isAfter(today)) {
+            return 0;
+        }
+        long days = ChronoUnit.DAYS.between(from, today) + 1;
+        List<int[]> ranges = birthdayRanges(from, today, days);
+
+        long start = System.nanoTime();
+        long read = 0;
+        long written = 0;
+        for (int[] range : ranges) {
+            Query query = Query.query(Criteria.where("birthdayKey").gte(range[0]).lte(range[1]));
+            query.fields().include("dob").include("age");
+            query.cursorBatchSize(batchSize);
+            try (Stream<Customer> stream = mongoTemplate.stream(query, Customer.class)) {
+                Iterator<Customer> iterator = stream.iterator();
+                List<String> pending = new ArrayList<>(batchSize);
+                BulkOperations operations = null;
+                while (iterator.hasNext()) {
+                    Customer customer = iterator.next();
+                    read++;
+                    Integer storedAge = customer.getAge();
+                    customer.calculateAge(today);
+                    if (customer.getDob() == null || Objects.equals(storedAge, customer.getAge())) {
+                        continue;
+                    }
+                    if (operations == null) {
+                        operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class);
+                    }
+                    operations.updateOne(Query.query(Criteria.where("_id").is(customer.getId())
+                                    .and("dob").is(customer.getDob())
+                                    .and("age").is(storedAge)),
+                            Update.update("age", customer.getAge()).inc("version", 1));
+                    pending.add(customer.getId());
+                    if (pending.size() == batchSize) {
+                        written += flush(operations, pending);
+                        operations = null;
+                    }
+                }
+                if (operations != null) {
+                    written += flush(operations, pending);
+                }
+            }
+        }
+        if (written > 0) {
+            writeEpoch.advance();
+        }
+        lastRunDate = today;
+
+        long elapsed = System.nanoTime() - start;
+        duration.record(Duration.ofNanos(elapsed));
+        scanned.increment(read);
+        updated.increment(written);
+        log.info("Age refresh for birthdays {} to {} read {} customers and updated {} in {} ms",
+                from, today, read, written, elapsed / 1_000_000);
+        return written;
+    }
+
+    private long flush(BulkOperations operations, List<String> ids) {
+        long modified = operations.execute().getModifiedCount();
+        ids.forEach(customers::evict);
+        ids.clear();
+        return modified;
+    }
+
+    /**
+     * birthdayKey ranges for the days {@code from} to {@code to}. On 28 February of a common
+     * year the range also takes in 29 February, since {@link Customer#calculateAge()} ages
+     * leap-day birthdays that day.
+     */
+    static List<int[]> birthdayRanges(LocalDate from, LocalDate to, long days) {
+        List<int[]> ranges = new ArrayList<>(CustomerService.birthdayRanges(
+                Customer.birthdayKey(from), Customer.birthdayKey(to), days >= 366));
+        int last = ranges.size() - 1;
+        if (!to.isLeapYear() && ranges.get(last)[1] == 228) {
+            ranges.set(last, new int[]{ranges.get(last)[0], 229});
+        }
+        return ranges;
+    }
+}
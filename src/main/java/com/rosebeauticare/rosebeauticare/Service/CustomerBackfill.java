@@ -0,0 +1,109 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Fills in the derived query fields on customers saved before those fields existed. Runs
+ * once at startup in unordered batches; queries that depend on a derived field keep their
+ * previous MongoDB path until its backfill has finished.
+ */
+@Slf4j
+@Component
+public class CustomerBackfill {
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private volatile boolean nameKeyReady;
+    private volatile boolean birthdayKeyReady;
+
+    public CustomerBackfill(MongoTemplate mongoTemplate,
+                            @Value("${rosebeauticare.backfill.enabled:true}") boolean enabled,
+                            @Value("${rosebeauticare.backfill.batch-size:1000}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isNameKeyReady() {
+        return nameKeyReady;
+    }
+
+    public boolean isBirthdayKeyReady() {
+        return birthdayKeyReady;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        nameKeyReady = backfill("nameKey", "name", customer -> Customer.normalizeName(customer.getName()),
+                "name search stays on unanchored regex queries");
+        birthdayKeyReady = backfill("birthdayKey", "dob", customer -> Customer.birthdayKey(customer.getDob()),
+                "upcoming birthdays are filtered in the application");
+        backfill("version", "_id", customer -> 0L, "legacy customers are versioned on their next update");
+    }
+
+    private boolean backfill(String field, String source, Function<Customer, Object> derive, String fallback) {
+        long start = System.currentTimeMillis();
+        try {
+            long updated = backfill(field, source, derive);
+            log.info("Backfilled {} on {} customers in {} ms", field, updated, System.currentTimeMillis() - start);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Failed to backfill {}, {}", field, fallback, e);
+            return false;
+        }
+    }
+
+    /**
+     * Sets {@code field} to {@code derive(customer)} on every customer that has a
+     * {@code source} value but no {@code field} yet, reading only {@code source}. Null
+     * fields are not stored, so customers without a source value are left alone.
+     */
+    long backfill(String field, String source, Function<Customer, Object> derive) {
+        Query query = Query.query(Criteria.where(field).exists(false).and(source).ne(null));
+        query.fields().include(source);
+        query.cursorBatchSize(batchSize);
+        long updated = 0;
+        try (Stream<Customer> customers = mongoTemplate.stream(query, Customer.class)) {
+            Iterator<Customer> iterator = customers.iterator();
+            BulkOperations operations = null;
+            int pending = 0;
+            while (iterator.hasNext()) {
+                Customer customer = iterator.next();
+                if (operations == null) {
+                    operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class);
+                }
+                // Guarded on the field still being absent so a concurrent save is never overwritten
+                operations.updateOne(
+                        Query.query(Criteria.where("_id").is(customer.getId()).and(field).exists(false)),
+                        Update.update(field, derive.apply(customer)));
+                if (++pending == batchSize) {
+                    updated += operations.execute().getModifiedCount();
+                    operations = null;
+                    pending = 0;
+                }
+            }
+            if (operations != null) {
+                updated += operations.execute().getModifiedCount();
+            }
+        }
+        return updated;
+    }
+}
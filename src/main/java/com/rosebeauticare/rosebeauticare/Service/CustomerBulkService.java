@@ -0,0 +1,413 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.rosebeauticare.rosebeauticare.DTO.BulkCustomerUpdateDTO;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Exception.BusinessException;
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Response.Customer.BulkOperationResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.BulkOperationResponse.RowResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batched customer writes. Rows are handled in chunks: each chunk is validated in memory,
+ * resolved against MongoDB with a single {@code $in} lookup and written with one
+ * unordered bulk operation, with the unique phone index as the final arbiter.
+ */
+@Slf4j
+@Service
+@Timed(value = "rosebeauticare.service", description = "Customer service method execution time")
+@RequiredArgsConstructor
+public class CustomerBulkService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+    /** How MongoDB names the unique phone index in a duplicate-key error message. */
+    private static final String PHONE_INDEX_ERROR = "index: phone dup key";
+
+    private final MongoTemplate mongoTemplate;
+    private final CustomerService customerService;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+
+    public BulkOperationResponse importCustomers(Iterator<CustomerDTO> rows) {
+        long start = System.currentTimeMillis();
+        List<RowResult> results = new ArrayList<>();
+        Set<String> seenPhones = new HashSet<>();
+        List<CustomerDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+        int index = 0;
+        int chunkStart = 0;
+
+        while (true) {
+            CustomerDTO next;
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+                next = rows.next();
+            } catch (RuntimeException e) {
+                // The parser cannot resynchronise after a malformed row; keep what was read so far
+                log.warn("Bulk import stopped at malformed row {}: {}", index, e.getMessage());
+                importChunk(chunk, chunkStart, seenPhones, results);
+                results.add(row(index, null, "REJECTED", "Malformed row, import stopped here"));
+                chunk.clear();
+                break;
+            }
+            chunk.add(next);
+            index++;
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, chunkStart, seenPhones, results);
+                chunk.clear();
+                chunkStart = index;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, chunkStart, seenPhones, results);
+        }
+
+        BulkOperationResponse response = BulkOperationResponse.of(results, System.currentTimeMillis() - start);
+        log.info("Bulk import finished: {} rows, {} created, {} failed in {} ms",
+                response.getTotal(), response.getSucceeded(), response.getFailed(), response.getElapsedMs());
+        return response;
+    }
+
+    private void importChunk(List<CustomerDTO> chunk, int offset, Set<String> seenPhones, List<RowResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        RowResult[] outcomes = new RowResult[chunk.size()];
+        List<Integer> candidates = new ArrayList<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            CustomerDTO dto = chunk.get(i);
+            String violations = validate(dto);
+            if (violations != null) {
+                outcomes[i] = row(offset + i, null, "REJECTED", violations);
+            } else if (!seenPhones.add(dto.getPhone())) {
+                outcomes[i] = row(offset + i, null, "DUPLICATE", "Phone number " + dto.getPhone() + " appears more than once");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        Set<String> existingPhones = findExistingPhones(candidates.stream()
+                .map(i -> chunk.get(i).getPhone())
+                .collect(Collectors.toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> inserts = new ArrayList<>();
+        List<Customer> customers = new ArrayList<>();
+        for (int i : candidates) {
+            CustomerDTO dto = chunk.get(i);
+            if (existingPhones.contains(dto.getPhone())) {
+                outcomes[i] = row(offset + i, null, "DUPLICATE", "Customer with phone number " + dto.getPhone() + " already exists");
+                continue;
+            }
+            Customer customer = customerService.convertToEntity(dto);
+            // Imports only create customers; a client-supplied id could clash on _id instead
+            customer.setId(new ObjectId().toHexString());
+            customer.refreshDerivedFields();
+            if (customer.getJoinDate() == null) {
+                customer.setJoinDate(LocalDate.now());
+            }
+            // Bulk inserts skip the version initialisation done by save(); set it and the
+            // audit dates here (auditing treats an entity with a version as existing)
+            customer.setVersion(0L);
+            customer.setCreatedAt(now);
+            customer.setUpdatedAt(now);
+            inserts.add(i);
+            customers.add(customer);
+        }
+
+        Set<Integer> failedInserts = new HashSet<>();
+        if (!customers.isEmpty()) {
+            BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class);
+            operations.insert(customers);
+            try {
+                operations.execute();
+            } catch (BulkOperationException e) {
+                for (BulkWriteError error : e.getErrors()) {
+                    int i = inserts.get(error.getIndex());
+                    failedInserts.add(error.getIndex());
+                    outcomes[i] = isPhoneDuplicate(error)
+                            ? row(offset + i, null, "DUPLICATE", "Customer with phone number " + chunk.get(i).getPhone() + " already exists")
+                            : row(offset + i, null, "FAILED", error.getMessage());
+                }
+            }
+        }
+
+        for (int j = 0; j < customers.size(); j++) {
+            if (!failedInserts.contains(j)) {
+                Customer customer = customers.get(j);
+                outcomes[inserts.get(j)] = row(offset + inserts.get(j), customer.getId(), "CREATED", null);
+                eventPublisher.publishEvent(CustomerChangedEvent.created(customer));
+            }
+        }
+        for (RowResult outcome : outcomes) {
+            results.add(outcome);
+        }
+    }
+
+    /**
+     * Applies partial updates as {@code $set} operations, a chunk per bulk write. Each chunk
+     * costs one {@code $in} read (for the not-found check and change events) and one write,
+     * guarded on the version that read returned; rows changed in between are reported as
+     * CONFLICT and cost one more read.
+     */
+    public BulkOperationResponse updateCustomers(List<BulkCustomerUpdateDTO> updates) {
+        long start = System.currentTimeMillis();
+        List<RowResult> results = new ArrayList<>(updates.size());
+        Set<String> seenIds = new HashSet<>();
+        for (int offset = 0; offset < updates.size(); offset += CHUNK_SIZE) {
+            List<BulkCustomerUpdateDTO> chunk = updates.subList(offset, Math.min(updates.size(), offset + CHUNK_SIZE));
+            updateChunk(chunk, offset, seenIds, results);
+        }
+
+        BulkOperationResponse response = BulkOperationResponse.of(results, System.currentTimeMillis() - start);
+        log.info("Bulk update finished: {} rows, {} updated, {} failed in {} ms",
+                response.getTotal(), response.getSucceeded(), response.getFailed(), response.getElapsedMs());
+        return response;
+    }
+
+    private void updateChunk(List<BulkCustomerUpdateDTO> chunk, int offset, Set<String> seenIds,
+                             List<RowResult> results) {
+        RowResult[] outcomes = new RowResult[chunk.size()];
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            BulkCustomerUpdateDTO update = chunk.get(i);
+            String id = update != null ? update.getId() : null;
+            String violations = update == null || update.getChanges() == null
+                    ? "Row must contain an id and changes"
+                    : validatePartial(update.getChanges());
+            if (id == null || id.isBlank()) {
+                outcomes[i] = row(offset + i, null, "REJECTED", "Customer ID is required");
+            } else if (violations != null) {
+                outcomes[i] = row(offset + i, id, "REJECTED", violations);
+            } else if (!seenIds.add(id)) {
+                outcomes[i] = row(offset + i, id, "REJECTED", "Customer ID appears more than once");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        Map<String, Customer> existing = candidates.isEmpty() ? Map.of() : mongoTemplate.find(
+                        Query.query(Criteria.where("_id").in(candidates.stream()
+                                .map(i -> chunk.get(i).getId())
+                                .collect(Collectors.toList()))),
+                        Customer.class).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class);
+        List<Integer> writes = new ArrayList<>();
+        List<CustomerChangedEvent> changes = new ArrayList<>();
+        for (int i : candidates) {
+            BulkCustomerUpdateDTO update = chunk.get(i);
+            Customer previous = existing.get(update.getId());
+            if (previous == null) {
+                outcomes[i] = row(offset + i, update.getId(), "NOT_FOUND", "Customer not found with ID: " + update.getId());
+                continue;
+            }
+            Customer current = previous.toBuilder().build();
+            customerService.applyChanges(current, update.getChanges());
+            current.refreshDerivedFields();
+            Update set = setChangedFields(previous, current);
+            if (set.getUpdateObject().isEmpty()) {
+                outcomes[i] = row(offset + i, update.getId(), "UPDATED", "No changes");
+                continue;
+            }
+            // $set writes bypass auditing and versioning, so stamp both like save() would
+            current.setUpdatedAt(LocalDateTime.now());
+            current.setVersion(previous.getVersion() != null ? previous.getVersion() + 1 : 1L);
+            set.set("updatedAt", current.getUpdatedAt()).inc("version", 1);
+            // Guarded on the version read above, so a write made since then is never overwritten
+            Criteria unchanged = Criteria.where("_id").is(update.getId());
+            unchanged = previous.getVersion() != null
+                    ? unchanged.and("version").is(previous.getVersion())
+                    : unchanged.and("version").exists(false);
+            operations.updateOne(Query.query(unchanged), set);
+            writes.add(i);
+            changes.add(CustomerChangedEvent.updated(previous, current));
+        }
+
+        Set<Integer> failedWrites = new HashSet<>();
+        int modified = 0;
+        if (!writes.isEmpty()) {
+            try {
+                modified = operations.execute().getModifiedCount();
+            } catch (BulkOperationException e) {
+                modified = e.getResult().getModifiedCount();
+                for (BulkWriteError error : e.getErrors()) {
+                    int i = writes.get(error.getIndex());
+                    failedWrites.add(error.getIndex());
+                    outcomes[i] = isPhoneDuplicate(error)
+                            ? row(offset + i, chunk.get(i).getId(), "DUPLICATE", "Phone number " + chunk.get(i).getChanges().getPhone() + " is already in use")
+                            : row(offset + i, chunk.get(i).getId(), "FAILED", error.getMessage());
+                }
+            }
+        }
+
+        Set<Integer> applied = confirmApplied(changes, failedWrites, modified);
+        Cache customers = cacheManager.getCache("customers");
+        for (int j = 0; j < writes.size(); j++) {
+            if (failedWrites.contains(j)) {
+                continue;
+            }
+            int i = writes.get(j);
+            if (!applied.contains(j)) {
+                outcomes[i] = row(offset + i, chunk.get(i).getId(), "CONFLICT", "Customer changed while the update was applied, retry the row");
+                continue;
+            }
+            outcomes[i] = row(offset + i, chunk.get(i).getId(), "UPDATED", null);
+            if (customers != null) {
+                customers.evict(chunk.get(i).getId());
+            }
+            eventPublisher.publishEvent(changes.get(j));
+        }
+        for (RowResult outcome : outcomes) {
+            results.add(outcome);
+        }
+    }
+
+    /**
+     * Positions in {@code changes} whose version-guarded update matched. The bulk result only
+     * counts modifications, so when it falls short of the writes attempted the rows are read
+     * back and an update counts as applied only if the document holds the state it wrote.
+     */
+    private Set<Integer> confirmApplied(List<CustomerChangedEvent> changes, Set<Integer> failedWrites, int modified) {
+        Set<Integer> attempted = new HashSet<>();
+        for (int j = 0; j < changes.size(); j++) {
+            if (!failedWrites.contains(j)) {
+                attempted.add(j);
+            }
+        }
+        if (modified >= attempted.size()) {
+            return attempted;
+        }
+        Map<String, Customer> stored = mongoTemplate.find(
+                        Query.query(Criteria.where("_id").in(attempted.stream()
+                                .map(j -> changes.get(j).getCustomerId())
+                                .collect(Collectors.toList()))),
+                        Customer.class).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        Set<Integer> applied = new HashSet<>();
+        for (int j : attempted) {
+            Customer current = changes.get(j).getCurrent();
+            Customer found = stored.get(current.getId());
+            if (found != null && Objects.equals(found.getVersion(), current.getVersion())
+                    && setChangedFields(found, current).getUpdateObject().isEmpty()) {
+                applied.add(j);
+            }
+        }
+        return applied;
+    }
+
+    private static Update setChangedFields(Customer previous, Customer current) {
+        Update update = new Update();
+        setIfChanged(update, "name", previous.getName(), current.getName());
+        setIfChanged(update, "nameKey", previous.getNameKey(), current.getNameKey());
+        setIfChanged(update, "phone", previous.getPhone(), current.getPhone());
+        setIfChanged(update, "altPhone", previous.getAltPhone(), current.getAltPhone());
+        setIfChanged(update, "address", previous.getAddress(), current.getAddress());
+        setIfChanged(update, "district", previous.getDistrict(), current.getDistrict());
+        setIfChanged(update, "state", previous.getState(), current.getState());
+        setIfChanged(update, "status", previous.getStatus(), current.getStatus());
+        setIfChanged(update, "gender", previous.getGender(), current.getGender());
+        setIfChanged(update, "dob", previous.getDob(), current.getDob());
+        setIfChanged(update, "age", previous.getAge(), current.getAge());
+        setIfChanged(update, "birthdayKey", previous.getBirthdayKey(), current.getBirthdayKey());
+        return update;
+    }
+
+    private static void setIfChanged(Update update, String field, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            update.set(field, after);
+        }
+    }
+
+    /**
+     * Validates only the fields a partial update actually sets.
+     */
+    private String validatePartial(CustomerDTO changes) {
+        try {
+            if (changes.getPhone() != null) {
+                customerService.validatePhoneFormat(changes.getPhone());
+            }
+        } catch (BusinessException e) {
+            return e.getMessage();
+        }
+        String violations = validator.validate(changes).stream()
+                .filter(violation -> violation.getInvalidValue() != null)
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", "));
+        return violations.isEmpty() ? null : violations;
+    }
+
+    private Set<String> findExistingPhones(List<String> phones) {
+        if (phones.isEmpty()) {
+            return Set.of();
+        }
+        Query query = Query.query(Criteria.where("phone").in(phones));
+        query.fields().include("phone").exclude("_id");
+        return mongoTemplate.find(query, Customer.class).stream()
+                .map(Customer::getPhone)
+                .collect(Collectors.toSet());
+    }
+
+    private String validate(CustomerDTO dto) {
+        if (dto == null) {
+            return "Row is empty";
+        }
+        Set<ConstraintViolation<CustomerDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static boolean isPhoneDuplicate(BulkWriteError error) {
+        return error.getCode() == DUPLICATE_KEY_ERROR && error.getMessage().contains(PHONE_INDEX_ERROR);
+    }
+
+    private static RowResult row(int index, String id, String status, String message) {
+        return RowResult.builder()
+                .index(index)
+                .id(id)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Repository.CustomerRepository;
+import com.rosebeauticare.rosebeauticare.config.RefreshingCacheLoader;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Loads entries of the {@code customers} cache (customer id to {@code CustomerDTO}), both on
+ * a miss and when a hot entry is refreshed. Customers deleted in the meantime load as
+ * {@code null} and drop out of the cache.
+ *
+ * <p>The {@code customers} cache is a loading cache, so this loader, not
+ * {@link CustomerService#getCustomerById}, makes the read on a miss. It therefore consults
+ * and maintains the negative cache itself: known-missing ids load as {@code null} without
+ * a query, and ids that are not found are marked missing before {@code getCustomerById}
+ * runs, which then answers 404 without a second read.
+ */
+@Component
+public class CustomerCacheLoader implements RefreshingCacheLoader {
+
+    private final CustomerRepository customerRepository;
+    private final CustomerService customerService;
+    private final CustomerLookupCache customerLookupCache;
+
+    /**
+     * {@code CustomerService} and {@code CustomerLookupCache} are resolved lazily: both depend
+     * on the cache manager that this loader is part of.
+     */
+    public CustomerCacheLoader(CustomerRepository customerRepository, @Lazy CustomerService customerService,
+                               @Lazy CustomerLookupCache customerLookupCache) {
+        this.customerRepository = customerRepository;
+        this.customerService = customerService;
+        this.customerLookupCache = customerLookupCache;
+    }
+
+    @Override
+    public String cacheName() {
+        return "customers";
+    }
+
+    @Override
+    public Object load(Object key) {
+        String id = (String) key;
+        if (customerLookupCache.isKnownMissing(id)) {
+            return null;
+        }
+        Optional<CustomerDTO> customer = customerRepository.findById(id).map(customerService::convertToDTO);
+        if (customer.isEmpty()) {
+            customerLookupCache.markMissing(id);
+        }
+        return customer.orElse(null);
+    }
+}
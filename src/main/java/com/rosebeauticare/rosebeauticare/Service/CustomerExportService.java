@@ -0,0 +1,160 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams customer listings straight from a MongoDB cursor to the response, one row at a
+ * time, so memory use does not grow with the size of the result.
+ */
+@Slf4j
+@Service
+@Timed(value = "rosebeauticare.service", description = "Customer service method execution time")
+@RequiredArgsConstructor
+public class CustomerExportService {
+
+    private static final int CURSOR_BATCH_SIZE = 500;
+    private static final String CSV_HEADER =
+            "id,name,phone,altPhone,address,district,state,status,gender,dob,age,joinDate\n";
+
+    private final MongoTemplate mongoTemplate;
+    private final CustomerService customerService;
+    private final ObjectMapper objectMapper;
+
+    public void exportCustomersByStatus(String status, ExportFormat format, OutputStream out) throws IOException {
+        log.debug("Exporting customers with status: {} as {}", status, format);
+        // Walks the collated (status, name, _id) index, so MongoDB streams rows without sorting them in memory
+        Query query = Query.query(Criteria.where("status").is(status))
+                .with(Sort.by(Sort.Direction.ASC, "name", "_id"))
+                .collation(CustomerService.NAME_COLLATION);
+        export(query, format, out);
+    }
+
+    public void exportCustomersByJoinDateRange(LocalDate startDate, LocalDate endDate, ExportFormat format,
+                                               OutputStream out) throws IOException {
+        log.debug("Exporting customers by join date range: {} to {} as {}", startDate, endDate, format);
+        Query query = Query.query(Criteria.where("joinDate").gt(startDate).lt(endDate));
+        export(query, format, out);
+    }
+
+    private void export(Query query, ExportFormat format, OutputStream out) throws IOException {
+        query.cursorBatchSize(CURSOR_BATCH_SIZE);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        long rows = 0;
+        try (Stream<Customer> customers = mongoTemplate.stream(query, Customer.class)) {
+            Iterator<Customer> iterator = customers.iterator();
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                while (iterator.hasNext()) {
+                    writeCsvRow(writer, iterator.next());
+                    flushPerBatch(writer, ++rows);
+                }
+            } else {
+                // Closing each row's generator would otherwise flush the writer through to the socket
+                ObjectWriter rowWriter = objectMapper.writerFor(CustomerDTO.class)
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                while (iterator.hasNext()) {
+                    rowWriter.writeValue(writer, customerService.convertToDTO(iterator.next()));
+                    writer.write('\n');
+                    flushPerBatch(writer, ++rows);
+                }
+            }
+        }
+        writer.flush();
+        log.debug("Export completed with {} rows", rows);
+    }
+
+    /** Sends rows to the client once per cursor batch rather than once per row. */
+    private static void flushPerBatch(Writer writer, long rows) throws IOException {
+        if (rows % CURSOR_BATCH_SIZE == 0) {
+            writer.flush();
+        }
+    }
+
+    private void writeCsvRow(Writer writer, Customer customer) throws IOException {
+        writeCsvField(writer, customer.getId());
+        writer.write(',');
+        writeCsvField(writer, customer.getName());
+        writer.write(',');
+        writeCsvField(writer, customer.getPhone());
+        writer.write(',');
+        writeCsvField(writer, customer.getAltPhone());
+        writer.write(',');
+        writeCsvField(writer, customer.getAddress());
+        writer.write(',');
+        writeCsvField(writer, customer.getDistrict());
+        writer.write(',');
+        writeCsvField(writer, customer.getState());
+        writer.write(',');
+        writeCsvField(writer, customer.getStatus());
+        writer.write(',');
+        writeCsvField(writer, customer.getGender());
+        writer.write(',');
+        writeCsvField(writer, customer.getDob() != null ? customer.getDob().toString() : null);
+        writer.write(',');
+        writeCsvField(writer, customer.getAge() != null ? customer.getAge().toString() : null);
+        writer.write(',');
+        writeCsvField(writer, customer.getJoinDate() != null ? customer.getJoinDate().toString() : null);
+        writer.write('\n');
+    }
+
+    /**
+     * Writes one RFC 4180 field. Values a spreadsheet would evaluate as a formula are quoted
+     * with a leading {@code '} so they open as text.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (isFormula(value)) {
+            writer.write("\"'");
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean isFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
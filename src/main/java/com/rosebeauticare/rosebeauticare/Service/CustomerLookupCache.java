@@ -0,0 +1,94 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Companion to the {@code customers} cache for id lookups.
+ *
+ * <p>Ids that were not found are remembered in the short-lived {@code missingCustomers}
+ * cache, so clients polling deleted or unknown ids do not reach MongoDB on every request.
+ * Creates drop the id from it again.
+ *
+ * <p>Lookups of ids written through this instance within the recent-write window are
+ * counted as cache hits or misses ({@code rosebeauticare.customers.recent-write.lookups}),
+ * showing how often write-through population saves a read.
+ */
+@Component
+public class CustomerLookupCache {
+
+    private static final Object MISSING = Boolean.TRUE;
+
+    private final org.springframework.cache.Cache missingCustomers;
+    private final Cache<Object, Object> customers;
+    private final Cache<String, Boolean> recentWrites;
+    private final Counter recentHits;
+    private final Counter recentMisses;
+
+    public CustomerLookupCache(CacheManager cacheManager, MeterRegistry meterRegistry,
+                               @Value("${rosebeauticare.cache.recent-write-window:PT10M}") Duration recentWriteWindow) {
+        this.missingCustomers = Objects.requireNonNull(cacheManager.getCache("missingCustomers"), "missingCustomers cache");
+        this.customers = ((CaffeineCache) Objects.requireNonNull(cacheManager.getCache("customers"), "customers cache"))
+                .getNativeCache();
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(recentWriteWindow)
+                .maximumSize(100_000)
+                .build();
+        this.recentHits = Counter.builder("rosebeauticare.customers.recent-write.lookups")
+                .description("Id lookups of recently written customers, by customers cache outcome")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.recentMisses = Counter.builder("rosebeauticare.customers.recent-write.lookups")
+                .description("Id lookups of recently written customers, by customers cache outcome")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public boolean isKnownMissing(String id) {
+        return missingCustomers.get(id) != null;
+    }
+
+    public void markMissing(String id) {
+        missingCustomers.put(id, MISSING);
+    }
+
+    /**
+     * Records a lookup of {@code id} for the recent-write hit ratio; call before the cache is read.
+     */
+    public void recordLookup(String id) {
+        if (id == null || recentWrites.getIfPresent(id) == null) {
+            return;
+        }
+        if (customers.policy().getIfPresentQuietly(id) != null) {
+            recentHits.increment();
+        } else {
+            recentMisses.increment();
+        }
+    }
+
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        String id = event.getCustomerId();
+        if (id == null) {
+            return;
+        }
+        if (event.isDelete()) {
+            recentWrites.invalidate(id);
+            markMissing(id);
+        } else {
+            missingCustomers.evict(id);
+            recentWrites.put(id, Boolean.TRUE);
+        }
+    }
+}
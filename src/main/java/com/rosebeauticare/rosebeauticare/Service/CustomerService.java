@@ -1,90 +1,168 @@
 package com.rosebeauticare.rosebeauticare.Service;
 
+import com.mongodb.MongoExecutionTimeoutException;
 import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Index.CustomerDirectory;
+import com.rosebeauticare.rosebeauticare.Index.NameTrigramIndex;
+import com.rosebeauticare.rosebeauticare.Index.PhoneIndex;
 import com.rosebeauticare.rosebeauticare.Model.Customer;
 import com.rosebeauticare.rosebeauticare.Repository.CustomerRepository;
+import com.rosebeauticare.rosebeauticare.Repository.Projection.CustomerIdName;
+import com.rosebeauticare.rosebeauticare.Response.Customer.CustomerStatsResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNamePhoneResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNameResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.KeysetPageResponse;
 import com.rosebeauticare.rosebeauticare.Exception.BusinessException;
+import com.rosebeauticare.rosebeauticare.Exception.DuplicateCustomerException;
+import com.rosebeauticare.rosebeauticare.Exception.InvalidRequestException;
 import com.rosebeauticare.rosebeauticare.Exception.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed(value = "rosebeauticare.service", description = "Customer service method execution time")
 @RequiredArgsConstructor
 @Transactional
 public class CustomerService {
 
+    /** Sort fields backed by a compound (field, _id) index; name sorts use {@link #NAME_COLLATION}. */
+    public static final Set<String> SORTABLE_FIELDS = Set.of("name", "joinDate");
+    /** Case-insensitive order of the collated {@code name} indexes on {@link Customer}. */
+    static final Collation NAME_COLLATION = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+    private static final Sort NAME_KEY_ORDER = Sort.by("nameKey", "_id");
+    /** Most rows the contains phase of an unlimited ({@code limit} 0) name search returns. */
+    static final int CONTAINS_MATCH_CAP = 500;
+    /** Server-side time budget of the contains phase; past it the search keeps the prefix matches. */
+    static final Duration CONTAINS_MAX_TIME = Duration.ofMillis(500);
+    private static final Sort BIRTHDAY_ORDER = Sort.by("birthdayKey", "_id");
+
     private final CustomerRepository customerRepository;
-    private final AtomicLong dailyRequestCount = new AtomicLong(0);
-    private static final long DAILY_REQUEST_LIMIT = 5000;
+    private final MongoTemplate mongoTemplate;
+    private final NameTrigramIndex nameTrigramIndex;
+    private final PhoneIndex phoneIndex;
+    private final CustomerDirectory customerDirectory;
+    private final CustomerStatistics customerStatistics;
+    private final CustomerLookupCache customerLookupCache;
+    private final CustomerBackfill customerBackfill;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
+    @CachePut(value = "customers", key = "#result.id")
     public CustomerDTO createCustomer(CustomerDTO customerDTO) {
-        checkRequestLimit();
         validatePhoneFormat(customerDTO.getPhone());
 
         log.info("Creating customer: {}", customerDTO.getName());
 
-        if (customerRepository.existsByPhone(customerDTO.getPhone())) {
-            throw new BusinessException("Customer with phone number " + customerDTO.getPhone() + " already exists");
-        }
+        rejectIfPhoneRegistered(customerDTO.getPhone(), "Customer with phone number " + customerDTO.getPhone() + " already exists");
 
         Customer customer = convertToEntity(customerDTO);
-        customer.calculateAge();
+        customer.refreshDerivedFields();
         if (customer.getJoinDate() == null) {
             customer.setJoinDate(LocalDate.now());
         }
 
-        Customer savedCustomer = customerRepository.save(customer);
+        Customer savedCustomer = saveUniquePhone(customer, "Customer with phone number " + customer.getPhone() + " already exists");
+        eventPublisher.publishEvent(CustomerChangedEvent.created(savedCustomer));
         log.info("Customer created with ID: {}", savedCustomer.getId());
         return convertToDTO(savedCustomer);
     }
 
+    /**
+     * On a {@code customers} cache miss the read is made by {@link CustomerCacheLoader}, which
+     * also records ids it did not find; this body then only runs for those (or when the cache
+     * is configured without a loader) and answers known-missing ids without a query.
+     */
     @Cacheable(value = "customers", key = "#id")
     @Transactional(readOnly = true)
     public CustomerDTO getCustomerById(String id) {
-        checkRequestLimit();
         log.debug("Fetching customer with ID: {}", id);
+        if (customerLookupCache.isKnownMissing(id)) {
+            throw new ResourceNotFoundException("Customer not found with ID: " + id);
+        }
         Customer customer = customerRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + id));
+                .orElseThrow(() -> {
+                    customerLookupCache.markMissing(id);
+                    return new ResourceNotFoundException("Customer not found with ID: " + id);
+                });
         return convertToDTO(customer);
     }
 
     @Transactional(readOnly = true)
-    public List<Map<String, String>> getAllCustomersBasic() {
-        checkRequestLimit();
+    public List<IdNameResponse> getAllCustomersBasic() {
+        if (customerDirectory.isReady()) {
+            return customerDirectory.findAll();
+        }
         return customerRepository.findAllBasicInfo().stream()
-                .map(customer -> Map.of(
-                        "id", customer.getId(),
-                        "name", customer.getName()))
+                .map(customer -> IdNameResponse.of(customer.getId(), customer.getName()))
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public IdNameResponse getCustomerBasicInfo(String id) {
+        log.debug("Fetching basic info for customer ID: {}", id);
+        Optional<IdNameResponse> resident = customerDirectory.find(id);
+        if (resident.isPresent()) {
+            return resident.get();
+        }
+        return customerRepository.findProjectedById(id)
+                .map(customer -> IdNameResponse.fromCustomer(customer.getId(), customer.getName()))
+                .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + id));
+    }
+
     @Transactional
-    @CacheEvict(value = "customers", key = "#id")
+    @CachePut(value = "customers", key = "#id")
     public CustomerDTO updateCustomer(String id, CustomerDTO customerDTO) {
-        checkRequestLimit();
         Customer existingCustomer = customerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + id));
+        if (existingCustomer.getVersion() == null) {
+            adoptLegacyVersion(existingCustomer);
+        }
+        Customer previous = existingCustomer.toBuilder().build();
 
         updateCustomerFields(existingCustomer, customerDTO);
-        existingCustomer.calculateAge();
+        existingCustomer.refreshDerivedFields();
         
-        Customer updatedCustomer = customerRepository.save(existingCustomer);
+        Customer updatedCustomer = saveUniquePhone(existingCustomer, "Phone number " + existingCustomer.getPhone() + " is already in use");
+        eventPublisher.publishEvent(CustomerChangedEvent.updated(previous, updatedCustomer));
         log.info("Customer updated successfully: {}", updatedCustomer.getName());
         return convertToDTO(updatedCustomer);
     }
@@ -92,71 +170,349 @@ public class CustomerService {
     @Transactional
     @CacheEvict(value = "customers", key = "#id")
     public void deleteCustomer(String id) {
-        checkRequestLimit();
-        if (!customerRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Customer not found with ID: " + id);
-        }
-        customerRepository.deleteById(id);
+        Customer customer = customerRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + id));
+        customerRepository.delete(customer);
+        eventPublisher.publishEvent(CustomerChangedEvent.deleted(customer));
         log.info("Customer deleted with ID: {}", id);
     }
 
     @Transactional(readOnly = true)
     public List<CustomerDTO> searchCustomers(String query) {
-        checkRequestLimit();
         log.debug("Searching customers with query: {}", query);
+        Optional<List<String>> indexed = nameTrigramIndex.search(query, 0);
+        if (indexed.isPresent()) {
+            return findAllInOrder(indexed.get());
+        }
+        if (customerBackfill.isNameKeyReady()) {
+            return searchByNameKey(query, 0);
+        }
         return customerRepository.findByNameContainingIgnoreCase(query).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(value = "customerQueries",
+            key = "@customerWriteEpoch.key('searchCustomers', #query.toLowerCase(), #limit)")
     public List<CustomerDTO> searchCustomers(String query, int limit) {
-        checkRequestLimit();
         log.debug("Searching customers with query: {}, limit: {}", query, limit);
-        return customerRepository.findByNameContainingIgnoreCase(query).stream()
-                .limit(limit)
+        Optional<List<String>> indexed = nameTrigramIndex.search(query, limit);
+        if (indexed.isPresent()) {
+            return findAllInOrder(indexed.get());
+        }
+        if (customerBackfill.isNameKeyReady()) {
+            return searchByNameKey(query, limit);
+        }
+        return customerRepository.findByNameContainingIgnoreCase(query, Limit.of(limit)).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Searches the normalized {@code nameKey}: names starting with the query come first,
+     * read as an index range scan, then names containing it fill the rest of the limit.
+     * The contains phase is skipped once the prefix phase fills the limit. Otherwise its
+     * unanchored regex cannot seek, so MongoDB walks every {@code nameKey} index key
+     * outside the prefix range, a scan bounded only by the collection size. It therefore
+     * runs under {@link #CONTAINS_MAX_TIME} and returns at most {@link #CONTAINS_MATCH_CAP}
+     * rows when no limit is given. A timed-out contains phase leaves just the prefix matches.
+     */
+    private List<CustomerDTO> searchByNameKey(String query, int limit) {
+        String key = Customer.normalizeName(query);
+        if (key == null || key.isEmpty()) {
+            return List.of();
+        }
+        List<Customer> matches = new ArrayList<>(mongoTemplate.find(nameKeyPrefixQuery(key, limit), Customer.class));
+        if (limit == 0 || matches.size() < limit) {
+            try {
+                matches.addAll(mongoTemplate.find(
+                        nameKeyContainsQuery(key, limit == 0 ? 0 : limit - matches.size()), Customer.class));
+            } catch (DataAccessException e) {
+                if (!isExecutionTimeout(e)) {
+                    throw e;
+                }
+                log.warn("Name search for '{}' ran past {}; returning prefix matches only", key, CONTAINS_MAX_TIME);
+            }
+        }
+        return matches.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /** First phase of the {@code nameKey} search: names starting with {@code key}. */
+    static Query nameKeyPrefixQuery(String key, int limit) {
+        String upper = prefixUpperBound(key);
+        Criteria startsWith = upper != null
+                ? Criteria.where("nameKey").gte(key).lt(upper)
+                : Criteria.where("nameKey").gte(key);
+        return Query.query(startsWith).with(NAME_KEY_ORDER).limit(limit);
+    }
+
+    /**
+     * Second phase of the {@code nameKey} search: names containing {@code key} but not
+     * starting with it. A limit of 0 is capped at {@link #CONTAINS_MATCH_CAP}.
+     */
+    static Query nameKeyContainsQuery(String key, int limit) {
+        String upper = prefixUpperBound(key);
+        Criteria outsidePrefix = upper != null
+                ? new Criteria().orOperator(Criteria.where("nameKey").lt(key), Criteria.where("nameKey").gte(upper))
+                : Criteria.where("nameKey").lt(key);
+        Criteria containsOnly = new Criteria().andOperator(
+                Criteria.where("nameKey").regex(Pattern.quote(key)), outsidePrefix);
+        return Query.query(containsOnly).with(NAME_KEY_ORDER)
+                .limit(limit == 0 ? CONTAINS_MATCH_CAP : limit)
+                .maxTime(CONTAINS_MAX_TIME);
+    }
+
+    /** Whether MongoDB stopped the query at its maxTime (error code 50). */
+    static boolean isExecutionTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoExecutionTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Smallest string greater than every string starting with {@code prefix}, or null when
+     * there is none because the prefix is all {@code '\uffff'}. Trailing {@code '\uffff'}s
+     * cannot be incremented, so they are dropped and the character before them is bumped.
+     */
+    static String prefixUpperBound(String prefix) {
+        int last = prefix.length() - 1;
+        while (last >= 0 && prefix.charAt(last) == Character.MAX_VALUE) {
+            last--;
+        }
+        if (last < 0) {
+            return null;
+        }
+        return prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
+    }
+
     @Transactional(readOnly = true)
-    public Page<Map<String, String>> getAllCustomersPaginated(Pageable pageable) {
-        checkRequestLimit();
+    @Cacheable(value = "customerQueries", condition = "#pageable.pageNumber == 0",
+            key = "@customerWriteEpoch.key('getAllCustomersPaginated', #pageable.pageSize, #pageable.sort.toString())")
+    public Page<IdNameResponse> getAllCustomersPaginated(Pageable pageable) {
         log.debug("Fetching customers with pagination: {}", pageable);
-        return customerRepository.findAllByOrderByNameAsc(pageable)
-                .map(customer -> Map.of(
-                        "id", customer.getId(),
-                        "name", customer.getName()));
+        pageable.getSort().forEach(order -> requireSortableField(order.getProperty()));
+        if (customerDirectory.canServe(pageable)) {
+            return customerDirectory.findPage(pageable);
+        }
+        Pageable ordered = withIdTiebreak(pageable);
+        Page<CustomerIdName> page = pageable.getSort().getOrderFor("name") != null
+                ? customerRepository.findAllProjectedByNameOrder(ordered)
+                : customerRepository.findAllProjectedBy(ordered);
+        return page.map(customer -> IdNameResponse.of(customer.getId(), customer.getName()));
+    }
+
+    /**
+     * {@code pageable} with {@code _id} appended to its sort, in the direction of the last
+     * order, so the (field, _id) indexes serve offset pages and rows with equal values keep
+     * their place between pages, in the same order as keyset paging.
+     */
+    static Pageable withIdTiebreak(Pageable pageable) {
+        Sort.Direction tiebreak = Sort.Direction.ASC;
+        for (Sort.Order order : pageable.getSort()) {
+            tiebreak = order.getDirection();
+        }
+        Sort sort = pageable.getSort().and(Sort.by(tiebreak, "_id"));
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort) : pageable;
+    }
+
+    /**
+     * Seek-based paging: each page is a range query continuing after the (sort value, _id)
+     * of the previous page, so latency does not depend on how deep the client has paged.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageResponse<IdNameResponse> getCustomersKeyset(String sortBy, Sort.Direction direction, int size,
+                                                                 String cursor, boolean includeTotal) {
+        requireSortableField(sortBy);
+        if (size < 1) {
+            throw new InvalidRequestException("Page size must be positive", "size", String.valueOf(size));
+        }
+        log.debug("Fetching customers with keyset pagination - sortBy: {}, direction: {}, size: {}",
+                sortBy, direction, size);
+
+        Query query = new Query();
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            keysetCursor.requireSort(sortBy, direction);
+            query.addCriteria(seekCriteria(keysetCursor));
+        }
+        query.with(Sort.by(direction, sortBy).and(Sort.by(direction, "_id")));
+        query.limit(size + 1);
+        query.fields().include("name").include(sortBy);
+        if ("name".equals(sortBy)) {
+            query.collation(NAME_COLLATION);
+        }
+
+        List<Customer> rows = mongoTemplate.find(query, Customer.class);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            Customer last = rows.get(rows.size() - 1);
+            String lastValue = "name".equals(sortBy) ? last.getName()
+                    : last.getJoinDate() != null ? last.getJoinDate().toString() : null;
+            nextCursor = new KeysetCursor(sortBy, direction, lastValue, last.getId()).encode();
+        }
+
+        return KeysetPageResponse.<IdNameResponse>builder()
+                .content(rows.stream()
+                        .map(customer -> IdNameResponse.of(customer.getId(), customer.getName()))
+                        .collect(Collectors.toList()))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? customerRepository.count() : null)
+                .build();
     }
 
     @Transactional(readOnly = true)
     public long getCustomerCount() {
-        checkRequestLimit();
         log.debug("Fetching customer count");
+        if (customerStatistics.isReady()) {
+            return customerStatistics.getTotal();
+        }
         return customerRepository.count();
     }
 
+    @Transactional(readOnly = true)
+    public CustomerStatsResponse getCustomerStats() {
+        log.debug("Fetching customer statistics");
+        if (!customerStatistics.isReady()) {
+            customerStatistics.reconcile();
+        }
+        return customerStatistics.snapshot();
+    }
+
     // New optimized methods
     @Transactional(readOnly = true)
     public List<CustomerDTO> getActiveCustomers() {
-        checkRequestLimit();
         return customerRepository.findByStatusOrderByNameAsc("ACTIVE").stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /** Id, name and phone of every active customer, in name order, read as a closed projection. */
     @Transactional(readOnly = true)
+    public List<IdNamePhoneResponse> getActiveCustomersBasic() {
+        return customerRepository.findActiveCustomersBasic().stream()
+                .map(customer -> IdNamePhoneResponse.of(customer.getId(), customer.getName(), customer.getPhone()))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = "customerQueries", key = "@customerWriteEpoch.key('searchByNameOrPhone', #query.toLowerCase())")
     public List<CustomerDTO> searchByNameOrPhone(String query) {
-        checkRequestLimit();
         log.debug("Searching customers by name or phone: {}", query);
-        return customerRepository.findByNameOrPhoneContainingIgnoreCase(query).stream()
+        if (!PhoneIndex.isDigits(query)) {
+            // Phones are digits only, so anything else can only match a name
+            return searchCustomers(query);
+        }
+        Optional<List<String>> phones = phoneIndex.findPhonesContaining(query);
+        if (phones.isPresent() && !phones.get().isEmpty()) {
+            // Ranked phone matches, then names containing the digits, as the MongoDB query finds both
+            Map<String, CustomerDTO> matches = new LinkedHashMap<>();
+            findAllByPhoneInOrder(phones.get()).forEach(customer -> matches.put(customer.getId(), customer));
+            searchCustomers(query).forEach(customer -> matches.putIfAbsent(customer.getId(), customer));
+            return new ArrayList<>(matches.values());
+        }
+        // No local match may still be a phone another instance registered
+        return customerRepository.findByNameOrPhoneContainingIgnoreCase(Pattern.quote(query)).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Customers whose birthday falls within the next {@code days} days, today included,
+     * soonest first. A window crossing the year end is split in two, and each part is one
+     * range scan over the (birthdayKey, _id) index, paged in MongoDB.
+     */
+    @Transactional(readOnly = true)
+    public Page<CustomerDTO> getUpcomingBirthdays(int days, Pageable pageable) {
+        if (days < 1 || days > 366) {
+            throw new InvalidRequestException("days must be between 1 and 366", "days", String.valueOf(days));
+        }
+        LocalDate today = LocalDate.now();
+        List<int[]> ranges = birthdayRanges(Customer.birthdayKey(today), Customer.birthdayKey(today.plusDays(days - 1)),
+                days == 366);
+        log.debug("Fetching birthdays in the next {} days: {}", days,
+                ranges.stream().map(range -> range[0] + "-" + range[1]).collect(Collectors.joining(", ")));
+        if (!customerBackfill.isBirthdayKeyReady()) {
+            return filterUpcomingBirthdays(ranges, pageable);
+        }
+
+        long offset = pageable.getOffset();
+        int remaining = pageable.getPageSize();
+        long total = 0;
+        List<CustomerDTO> content = new ArrayList<>(remaining);
+        for (int[] range : ranges) {
+            Criteria inRange = Criteria.where("birthdayKey").gte(range[0]).lte(range[1]);
+            long count = mongoTemplate.count(Query.query(inRange), Customer.class);
+            total += count;
+            if (remaining > 0 && offset < count) {
+                List<Customer> found = mongoTemplate.find(Query.query(inRange)
+                        .with(BIRTHDAY_ORDER).skip(offset).limit(remaining), Customer.class);
+                found.forEach(customer -> content.add(convertToDTO(customer)));
+                remaining -= found.size();
+                offset = 0;
+            } else {
+                offset = Math.max(0, offset - count);
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Inclusive birthdayKey ranges from {@code from} to {@code to}, in calendar order from
+     * {@code from}. {@code fullYear} covers every day even when both ends coincide.
+     */
+    static List<int[]> birthdayRanges(int from, int to, boolean fullYear) {
+        if (fullYear) {
+            return from == 101 ? List.of(new int[]{101, 1231}) : List.of(new int[]{from, 1231}, new int[]{101, from - 1});
+        }
+        if (from <= to) {
+            return List.of(new int[]{from, to});
+        }
+        return List.of(new int[]{from, 1231}, new int[]{101, to});
+    }
+
+    /**
+     * Used until birthdayKey is backfilled: reads every customer with a date of birth and
+     * filters in the application.
+     */
+    private Page<CustomerDTO> filterUpcomingBirthdays(List<int[]> ranges, Pageable pageable) {
+        List<Customer> matches = mongoTemplate.find(Query.query(Criteria.where("dob").ne(null)), Customer.class).stream()
+                .filter(customer -> windowPosition(ranges, Customer.birthdayKey(customer.getDob())) >= 0)
+                .sorted(Comparator.comparingInt((Customer customer) ->
+                                windowPosition(ranges, Customer.birthdayKey(customer.getDob())))
+                        .thenComparing(Customer::getId))
+                .toList();
+        List<CustomerDTO> content = matches.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
+    /** Sort position of {@code key} within the window, or -1 when outside it. */
+    private static int windowPosition(List<int[]> ranges, int key) {
+        for (int i = 0; i < ranges.size(); i++) {
+            if (key >= ranges.get(i)[0] && key <= ranges.get(i)[1]) {
+                return i * 10_000 + key;
+            }
+        }
+        return -1;
+    }
+
     @Transactional(readOnly = true)
     public List<CustomerDTO> getCustomersByJoinDateRange(LocalDate startDate, LocalDate endDate) {
-        checkRequestLimit();
         log.debug("Fetching customers by join date range: {} to {}", startDate, endDate);
         return customerRepository.findByJoinDateBetween(startDate, endDate).stream()
                 .map(this::convertToDTO)
@@ -165,28 +521,130 @@ public class CustomerService {
 
     @Transactional(readOnly = true)
     public long getCustomerCountByStatus(String status) {
-        checkRequestLimit();
+        if (customerStatistics.isReady()) {
+            return customerStatistics.getCountByStatus(status);
+        }
         return customerRepository.countByStatus(status);
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(value = "customerQueries", key = "@customerWriteEpoch.key('getCustomersByStatus', #status)")
     public List<CustomerDTO> getCustomersByStatus(String status) {
-        checkRequestLimit();
         log.debug("Fetching customers with status: {}", status);
         return customerRepository.findByStatusOrderByNameAsc(status).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Rows after the cursor in (sort field, _id) order. MongoDB sorts a null or missing sort
+     * value before every other value, so ascending pages move from the null band into the
+     * values and descending pages end with it.
+     */
+    private Criteria seekCriteria(KeysetCursor cursor) {
+        String field = cursor.sortField();
+        Object lastValue = cursor.lastValue();
+        if ("joinDate".equals(field) && lastValue != null) {
+            try {
+                lastValue = LocalDate.parse(cursor.lastValue());
+            } catch (DateTimeParseException e) {
+                throw new InvalidRequestException("Invalid pagination cursor", "cursor", cursor.encode());
+            }
+        }
+        boolean ascending = cursor.direction().isAscending();
+        Criteria tie = ascending
+                ? Criteria.where(field).is(lastValue).and("_id").gt(cursor.lastId())
+                : Criteria.where(field).is(lastValue).and("_id").lt(cursor.lastId());
+        if (lastValue == null) {
+            return ascending ? new Criteria().orOperator(tie, Criteria.where(field).ne(null)) : tie;
+        }
+        if (ascending) {
+            return new Criteria().orOperator(Criteria.where(field).gt(lastValue), tie);
+        }
+        return new Criteria().orOperator(Criteria.where(field).lt(lastValue), tie, Criteria.where(field).is(null));
+    }
+
+    static void requireSortableField(String field) {
+        if (!SORTABLE_FIELDS.contains(field)) {
+            throw new InvalidRequestException("Sorting is only supported on " + SORTABLE_FIELDS, "sortBy", field);
+        }
+    }
+
+    private List<CustomerDTO> findAllInOrder(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Customer> byId = customerRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    private List<CustomerDTO> findAllByPhoneInOrder(List<String> phones) {
+        if (phones.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Customer> byPhone = customerRepository.findByPhoneIn(phones).stream()
+                .collect(Collectors.toMap(Customer::getPhone, Function.identity()));
+        return phones.stream()
+                .map(byPhone::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
     private void updateCustomerFields(Customer customer, CustomerDTO dto) {
         if (dto.getPhone() != null) {
             validatePhoneFormat(dto.getPhone());
-            if (!dto.getPhone().equals(customer.getPhone()) &&
-                    customerRepository.existsByPhone(dto.getPhone())) {
-                throw new BusinessException("Phone number " + dto.getPhone() + " is already in use");
+            if (!dto.getPhone().equals(customer.getPhone())) {
+                rejectIfPhoneRegistered(dto.getPhone(), "Phone number " + dto.getPhone() + " is already in use");
             }
-            customer.setPhone(dto.getPhone());
         }
+        applyChanges(customer, dto);
+    }
+
+    /**
+     * Only phones the in-memory {@link PhoneIndex} holds, or cannot rule out, are checked in
+     * MongoDB. Registrations the index has not seen are still caught by the unique phone
+     * index in {@link #saveUniquePhone}.
+     */
+    private void rejectIfPhoneRegistered(String phone, String message) {
+        if (!phoneIndex.contains(phone).orElse(true)) {
+            return;
+        }
+        customerRepository.findByPhone(phone).ifPresent(existing -> {
+            throw new DuplicateCustomerException(message, existing.getId(), existing.getName());
+        });
+    }
+
+    /**
+     * Customers stored before versioning have no version, which Spring Data reads as a new
+     * entity and would insert again. Stamps version 0 on the stored document first; if another
+     * writer got there in between, the save fails the version check instead.
+     */
+    private void adoptLegacyVersion(Customer customer) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(customer.getId()).and("version").exists(false)),
+                Update.update("version", 0L), Customer.class);
+        customer.setVersion(0L);
+    }
+
+    private Customer saveUniquePhone(Customer customer, String message) {
+        try {
+            return customerRepository.save(customer);
+        } catch (DuplicateKeyException e) {
+            Optional<Customer> existing = customerRepository.findByPhone(customer.getPhone());
+            throw new DuplicateCustomerException(message,
+                    existing.map(Customer::getId).orElse(null),
+                    existing.map(Customer::getName).orElse(null));
+        }
+    }
+
+    void applyChanges(Customer customer, CustomerDTO dto) {
+        if (dto.getPhone() != null) customer.setPhone(dto.getPhone());
         if (dto.getName() != null) customer.setName(dto.getName());
         if (dto.getAltPhone() != null) customer.setAltPhone(dto.getAltPhone());
         if (dto.getAddress() != null) customer.setAddress(dto.getAddress());
@@ -199,19 +657,13 @@ public class CustomerService {
         }
     }
 
-    private void checkRequestLimit() {
-        if (dailyRequestCount.incrementAndGet() > DAILY_REQUEST_LIMIT) {
-            throw new BusinessException("Daily request limit of " + DAILY_REQUEST_LIMIT + " exceeded");
-        }
-    }
-
-    private void validatePhoneFormat(String phone) {
+    void validatePhoneFormat(String phone) {
         if (phone == null || !phone.matches("\\d{10}")) {
             throw new BusinessException("Phone number must be exactly 10 digits");
         }
     }
 
-    private Customer convertToEntity(CustomerDTO dto) {
+    Customer convertToEntity(CustomerDTO dto) {
         return Customer.builder()
                 .id(dto.getId())
                 .name(dto.getName())
@@ -230,7 +682,7 @@ public class CustomerService {
                 .build();
     }
 
-    private CustomerDTO convertToDTO(Customer entity) {
+    CustomerDTO convertToDTO(Customer entity) {
         return CustomerDTO.builder()
                 .id(entity.getId())
                 .name(entity.getName())
@@ -248,6 +700,13 @@ public class CustomerService {
                 .joinDate(entity.getJoinDate() != null
                         ? Date.from(entity.getJoinDate().atStartOfDay(ZoneId.systemDefault()).toInstant())
                         : null)
+                .createdAt(entity.getCreatedAt() != null
+                        ? Date.from(entity.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant())
+                        : null)
+                .updatedAt(entity.getUpdatedAt() != null
+                        ? Date.from(entity.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant())
+                        : null)
+                .version(entity.getVersion())
                 .build();
     }
 }
\ No newline at end of file
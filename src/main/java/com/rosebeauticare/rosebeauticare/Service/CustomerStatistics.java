@@ -0,0 +1,192 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Response.Customer.CustomerStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Customer totals maintained from the write paths, so dashboard counts are served from
+ * memory. A scheduled job recounts in MongoDB and corrects any drift, such as writes
+ * made by other instances or directly in the database.
+ */
+@Slf4j
+@Component
+public class CustomerStatistics {
+
+    private final MongoTemplate mongoTemplate;
+    private final LongAdder total = new LongAdder();
+    private final Map<String, LongAdder> byStatus = new ConcurrentHashMap<>();
+    private final Map<YearMonth, LongAdder> byJoinMonth = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastReconciledAt;
+
+    public CustomerStatistics(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public boolean isReady() {
+        return lastReconciledAt != null;
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    public long getCountByStatus(String status) {
+        LongAdder count = byStatus.get(status);
+        return count != null ? count.sum() : 0;
+    }
+
+    public CustomerStatsResponse snapshot() {
+        Map<String, Long> statuses = new TreeMap<>();
+        byStatus.forEach((status, count) -> {
+            if (count.sum() > 0) {
+                statuses.put(status, count.sum());
+            }
+        });
+        Map<String, Long> months = new TreeMap<>();
+        byJoinMonth.forEach((month, count) -> {
+            if (count.sum() > 0) {
+                months.put(month.toString(), count.sum());
+            }
+        });
+        return CustomerStatsResponse.builder()
+                .total(total.sum())
+                .byStatus(statuses)
+                .byJoinMonth(months)
+                .lastReconciledAt(lastReconciledAt)
+                .build();
+    }
+
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        Customer previous = event.getPrevious();
+        Customer current = event.getCurrent();
+        if (previous == null) {
+            total.increment();
+        } else if (current == null) {
+            total.decrement();
+        }
+        String previousStatus = previous != null ? previous.getStatus() : null;
+        String currentStatus = current != null ? current.getStatus() : null;
+        if (!Objects.equals(previousStatus, currentStatus)) {
+            adjust(byStatus, previousStatus, -1);
+            adjust(byStatus, currentStatus, 1);
+        }
+        YearMonth previousMonth = previous != null ? joinMonth(previous.getJoinDate()) : null;
+        YearMonth currentMonth = current != null ? joinMonth(current.getJoinDate()) : null;
+        if (!Objects.equals(previousMonth, currentMonth)) {
+            adjust(byJoinMonth, previousMonth, -1);
+            adjust(byJoinMonth, currentMonth, 1);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Failed to load customer statistics, counts stay on MongoDB until the next reconcile", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rosebeauticare.stats.reconcile-interval:PT10M}",
+            initialDelayString = "${rosebeauticare.stats.reconcile-interval:PT10M}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Customer statistics reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recounts totals in MongoDB and adds the difference to each counter.
+     */
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+        Map<String, Long> statusCounts = new HashMap<>();
+        mongoTemplate.aggregate(Aggregation.newAggregation(
+                        Aggregation.group("status").count().as("count")),
+                Customer.class, Document.class)
+                .forEach(doc -> {
+                    String status = doc.getString("_id");
+                    if (status != null) {
+                        statusCounts.put(status, ((Number) doc.get("count")).longValue());
+                    }
+                });
+
+        Map<YearMonth, Long> monthCounts = new HashMap<>();
+        mongoTemplate.aggregate(Aggregation.newAggregation(
+                        Aggregation.match(Criteria.where("joinDate").ne(null)),
+                        Aggregation.project().and(DateOperators.DateToString.dateOf("joinDate")
+                                        .toString("%Y-%m")
+                                        .withTimezone(DateOperators.Timezone.fromZone(ZoneId.systemDefault())))
+                                .as("month"),
+                        Aggregation.group("month").count().as("count")),
+                Customer.class, Document.class)
+                .forEach(doc -> monthCounts.put(YearMonth.parse(doc.getString("_id")),
+                        ((Number) doc.get("count")).longValue()));
+
+        long actualTotal = mongoTemplate.count(new Query(), Customer.class);
+
+        long drift = Math.abs(actualTotal - total.sum());
+        total.add(actualTotal - total.sum());
+        drift += correct(byStatus, statusCounts);
+        drift += correct(byJoinMonth, monthCounts);
+        if (lastReconciledAt != null && drift > 0) {
+            log.info("Customer statistics corrected by {} across all counters", drift);
+        }
+        lastReconciledAt = LocalDateTime.now();
+        log.debug("Customer statistics reconciled in {} ms", System.currentTimeMillis() - start);
+    }
+
+    private static <K> long correct(Map<K, LongAdder> counters, Map<K, Long> actual) {
+        long drift = 0;
+        for (Map.Entry<K, Long> entry : actual.entrySet()) {
+            LongAdder counter = counters.computeIfAbsent(entry.getKey(), key -> new LongAdder());
+            long delta = entry.getValue() - counter.sum();
+            counter.add(delta);
+            drift += Math.abs(delta);
+        }
+        for (Map.Entry<K, LongAdder> entry : counters.entrySet()) {
+            if (!actual.containsKey(entry.getKey())) {
+                long stale = entry.getValue().sum();
+                entry.getValue().add(-stale);
+                drift += Math.abs(stale);
+            }
+        }
+        return drift;
+    }
+
+    private static <K> void adjust(Map<K, LongAdder> counters, K key, long delta) {
+        if (key != null) {
+            counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    private static YearMonth joinMonth(LocalDate joinDate) {
+        return joinDate != null ? YearMonth.from(joinDate) : null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counter bumped by every customer write. Query results are cached under keys that include
+ * the epoch current when they were computed, so any write makes every earlier entry
+ * unreachable without tracking which queries it affected; the orphaned entries age out of
+ * the cache. Writes made by other instances are only picked up once those entries expire.
+ */
+@Component("customerWriteEpoch")
+public class CustomerWriteEpoch {
+
+    private final AtomicLong epoch = new AtomicLong();
+    /** Distinguishes this instance's epochs from those of other instances and earlier runs. */
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final long listMaxAgeMillis;
+
+    public CustomerWriteEpoch() {
+        this(Duration.ofMinutes(1));
+    }
+
+    @Autowired
+    public CustomerWriteEpoch(@Value("${rosebeauticare.etag.list-max-age:PT1M}") Duration listMaxAge) {
+        this.listMaxAgeMillis = Math.max(1, listMaxAge.toMillis());
+    }
+
+    public long current() {
+        return epoch.get();
+    }
+
+    /**
+     * Cache key for {@code operation} with {@code params}, stamped with the current epoch.
+     */
+    public QueryKey key(String operation, Object... params) {
+        return new QueryKey(operation, epoch.get(), List.of(params));
+    }
+
+    /**
+     * Weak ETag for customer list responses: unchanged until a write reaches this instance or
+     * the list max-age window rolls over. The window bounds how long a client can keep a list
+     * that another instance has since changed.
+     */
+    public String listETag() {
+        return "W/\"" + bootId + "-" + epoch.get() + "-" + System.currentTimeMillis() / listMaxAgeMillis + "\"";
+    }
+
+    /**
+     * Invalidates every cached query result, for writes that bypass {@link CustomerChangedEvent}.
+     */
+    public void advance() {
+        epoch.incrementAndGet();
+    }
+
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        advance();
+    }
+
+    public record QueryKey(String operation, long epoch, List<Object> params) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Exception.InvalidRequestException;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Response.Customer.JoinHistogramResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Join counts per day, week or month, split by status, computed by one aggregation over
+ * the {@code joinDate} index.
+ *
+ * <p>Buckets of closed periods only change when a customer in them is created, deleted,
+ * re-dated or changes status, so they are kept in the {@code joinHistogram} cache and
+ * evicted by those writes; its expiry only bounds staleness from writes made by other
+ * instances. The open period is recomputed on every request, so a report whose closed
+ * buckets are cached costs one query over the current period.
+ */
+@Slf4j
+@Component
+public class JoinDateHistogram {
+
+    static final String CACHE_NAME = "joinHistogram";
+
+    private final MongoTemplate mongoTemplate;
+    private final Cache closedBuckets;
+    private final CustomerWriteEpoch writeEpoch;
+    private final int maxBuckets;
+    private final Clock clock;
+
+    @Autowired
+    public JoinDateHistogram(MongoTemplate mongoTemplate, CacheManager cacheManager, CustomerWriteEpoch writeEpoch,
+                             @Value("${rosebeauticare.stats.histogram.max-buckets:1000}") int maxBuckets) {
+        this(mongoTemplate, Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), CACHE_NAME + " cache"),
+                writeEpoch, maxBuckets, Clock.systemDefaultZone());
+    }
+
+    JoinDateHistogram(MongoTemplate mongoTemplate, Cache closedBuckets, CustomerWriteEpoch writeEpoch,
+                      int maxBuckets, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.closedBuckets = closedBuckets;
+        this.writeEpoch = writeEpoch;
+        this.maxBuckets = maxBuckets;
+        this.clock = clock;
+    }
+
+    /**
+     * Buckets for every period overlapping {@code from}..{@code to} (inclusive), up to the
+     * current period. Buckets always cover whole periods.
+     */
+    public JoinHistogramResponse histogram(HistogramInterval interval, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate last = to.isAfter(today) ? today : to;
+        if (from.isAfter(last)) {
+            throw new InvalidRequestException("startDate must not be after endDate or today", "startDate", from.toString());
+        }
+        List<LocalDate> starts = new ArrayList<>();
+        for (LocalDate start = interval.periodStart(from); !start.isAfter(last); start = interval.nextPeriodStart(start)) {
+            if (starts.size() == maxBuckets) {
+                throw new InvalidRequestException("Histogram is limited to " + maxBuckets + " buckets", "interval",
+                        interval.name());
+            }
+            starts.add(start);
+        }
+
+        LocalDate openStart = interval.periodStart(today);
+        Map<LocalDate, BucketCounts> counts = new HashMap<>();
+        LocalDate missingFrom = null;
+        LocalDate missingTo = null;
+        for (LocalDate start : starts) {
+            BucketCounts cached = start.isBefore(openStart)
+                    ? closedBuckets.get(new BucketKey(interval, start), BucketCounts.class)
+                    : null;
+            if (cached != null) {
+                counts.put(start, cached);
+            } else {
+                if (missingFrom == null) {
+                    missingFrom = start;
+                }
+                missingTo = interval.nextPeriodStart(start);
+            }
+        }
+
+        if (missingFrom != null) {
+            long epoch = writeEpoch.current();
+            Map<LocalDate, BucketCounts> computed = aggregate(interval, missingFrom, missingTo);
+            // A write during the aggregation may already have evicted what it would cache
+            boolean cacheable = writeEpoch.current() == epoch;
+            for (LocalDate start : starts) {
+                if (counts.containsKey(start)) {
+                    continue;
+                }
+                BucketCounts bucket = computed.getOrDefault(start, BucketCounts.EMPTY);
+                counts.put(start, bucket);
+                if (cacheable && start.isBefore(openStart)) {
+                    closedBuckets.put(new BucketKey(interval, start), bucket);
+                }
+            }
+        }
+
+        List<JoinHistogramResponse.Bucket> buckets = new ArrayList<>(starts.size());
+        for (LocalDate start : starts) {
+            BucketCounts bucket = counts.get(start);
+            buckets.add(JoinHistogramResponse.Bucket.builder()
+                    .start(start)
+                    .end(interval.nextPeriodStart(start))
+                    .total(bucket.total())
+                    .byStatus(bucket.byStatus())
+                    .build());
+        }
+        return JoinHistogramResponse.builder()
+                .interval(interval.name())
+                .buckets(buckets)
+                .build();
+    }
+
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        Customer previous = event.getPrevious();
+        Customer current = event.getCurrent();
+        if (previous != null && current != null
+                && Objects.equals(previous.getJoinDate(), current.getJoinDate())
+                && Objects.equals(previous.getStatus(), current.getStatus())) {
+            return;
+        }
+        evictPeriodsOf(previous);
+        evictPeriodsOf(current);
+    }
+
+    private void evictPeriodsOf(Customer customer) {
+        if (customer == null || customer.getJoinDate() == null) {
+            return;
+        }
+        for (HistogramInterval interval : HistogramInterval.values()) {
+            closedBuckets.evict(new BucketKey(interval, interval.periodStart(customer.getJoinDate())));
+        }
+    }
+
+    /**
+     * Counts joins per day and status in MongoDB, then folds the days into periods.
+     */
+    private Map<LocalDate, BucketCounts> aggregate(HistogramInterval interval, LocalDate from, LocalDate to) {
+        long start = System.currentTimeMillis();
+        Map<LocalDate, Long> totals = new HashMap<>();
+        Map<LocalDate, Map<String, Long>> statuses = new HashMap<>();
+        mongoTemplate.aggregate(Aggregation.newAggregation(
+                        Aggregation.match(Criteria.where("joinDate").gte(from).lt(to)),
+                        Aggregation.project("status").and(DateOperators.DateToString.dateOf("joinDate")
+                                        .toString("%Y-%m-%d")
+                                        .withTimezone(DateOperators.Timezone.fromZone(ZoneId.systemDefault())))
+                                .as("day"),
+                        Aggregation.group("day", "status").count().as("count")),
+                Customer.class, Document.class)
+                .forEach(doc -> {
+                    Document id = doc.get("_id", Document.class);
+                    LocalDate period = interval.periodStart(LocalDate.parse(id.getString("day")));
+                    long count = ((Number) doc.get("count")).longValue();
+                    totals.merge(period, count, Long::sum);
+                    String status = id.getString("status");
+                    if (status != null) {
+                        statuses.computeIfAbsent(period, p -> new TreeMap<>()).merge(status, count, Long::sum);
+                    }
+                });
+        log.debug("Join histogram {} from {} to {} aggregated in {} ms", interval, from, to,
+                System.currentTimeMillis() - start);
+
+        Map<LocalDate, BucketCounts> buckets = new HashMap<>();
+        totals.forEach((period, total) -> buckets.put(period, new BucketCounts(total,
+                Collections.unmodifiableMap(statuses.getOrDefault(period, Map.of())))));
+        return buckets;
+    }
+
+    record BucketKey(HistogramInterval interval, LocalDate start) {
+    }
+
+    record BucketCounts(long total, Map<String, Long> byStatus) {
+        static final BucketCounts EMPTY = new BucketCounts(0, Map.of());
+    }
+}
@@ -0,0 +1,48 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Exception.InvalidRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for seek-based paging. It records the sort it was issued
+ * for and the sort value and id of the last row returned, so the next page starts with
+ * a range predicate instead of a skip. A null sort value is encoded as an empty field;
+ * present values carry a leading marker so that an empty string stays distinct from it.
+ */
+record KeysetCursor(String sortField, Sort.Direction direction, String lastValue, String lastId) {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final String VALUE_MARKER = "=";
+
+    String encode() {
+        String value = lastValue == null ? "" : VALUE_MARKER + lastValue;
+        String raw = sortField + SEPARATOR + direction.name() + SEPARATOR + value + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Unexpected cursor layout");
+            }
+            if (!parts[2].isEmpty() && !parts[2].startsWith(VALUE_MARKER)) {
+                throw new IllegalArgumentException("Unexpected cursor value");
+            }
+            String lastValue = parts[2].isEmpty() ? null : parts[2].substring(VALUE_MARKER.length());
+            return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), lastValue, parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid pagination cursor", "cursor", token);
+        }
+    }
+
+    void requireSort(String field, Sort.Direction expectedDirection) {
+        if (!sortField.equals(field) || direction != expectedDirection) {
+            throw new InvalidRequestException("Pagination cursor was issued for a different sort", "cursor", encode());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Exception.ResourceNotFoundException;
+import com.rosebeauticare.rosebeauticare.Index.CustomerDirectory;
+import com.rosebeauticare.rosebeauticare.Index.NameTrigramIndex;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Repository.Projection.CustomerIdName;
+import com.rosebeauticare.rosebeauticare.Repository.ReactiveCustomerRepository;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNameResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link CustomerService} for the v2 API. Reads go through the
+ * reactive MongoDB driver and return the same {@link CustomerDTO} contract; single-customer
+ * reads share the {@code customers} and {@code missingCustomers} caches with the v1
+ * endpoints, so entries written or evicted by the v1 write paths apply here too.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "rosebeauticare.api.v2.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveCustomerService {
+
+    private final ReactiveCustomerRepository customerRepository;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final CustomerService customerService;
+    private final CustomerBackfill customerBackfill;
+    private final NameTrigramIndex nameTrigramIndex;
+    private final CustomerDirectory customerDirectory;
+    private final Cache<Object, Object> customerCache;
+    private final CustomerLookupCache customerLookupCache;
+
+    public ReactiveCustomerService(ReactiveCustomerRepository customerRepository, ReactiveMongoTemplate mongoTemplate,
+                                   CustomerService customerService, CustomerBackfill customerBackfill,
+                                   NameTrigramIndex nameTrigramIndex, CustomerDirectory customerDirectory,
+                                   CacheManager cacheManager, CustomerLookupCache customerLookupCache) {
+        this.customerRepository = customerRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.customerService = customerService;
+        this.customerBackfill = customerBackfill;
+        this.nameTrigramIndex = nameTrigramIndex;
+        this.customerDirectory = customerDirectory;
+        // The native cache is read with getIfPresent: going through the Spring wrapper would
+        // run the blocking refresh loader inline on a miss
+        this.customerCache = ((CaffeineCache) Objects.requireNonNull(cacheManager.getCache("customers"),
+                "customers cache")).getNativeCache();
+        this.customerLookupCache = customerLookupCache;
+    }
+
+    public Mono<CustomerDTO> getCustomerById(String id) {
+        customerLookupCache.recordLookup(id);
+        if (customerCache.getIfPresent(id) instanceof CustomerDTO cached) {
+            return Mono.just(cached);
+        }
+        if (customerLookupCache.isKnownMissing(id)) {
+            return Mono.error(new ResourceNotFoundException("Customer not found with ID: " + id));
+        }
+        log.debug("Fetching customer with ID: {}", id);
+        return customerRepository.findById(id)
+                .map(customerService::convertToDTO)
+                .doOnNext(customer -> customerCache.put(id, customer))
+                .switchIfEmpty(Mono.error(() -> {
+                    customerLookupCache.markMissing(id);
+                    return new ResourceNotFoundException("Customer not found with ID: " + id);
+                }));
+    }
+
+    public Flux<CustomerDTO> searchCustomers(String query, int limit) {
+        log.debug("Searching customers with query: {}, limit: {}", query, limit);
+        Optional<List<String>> indexed = nameTrigramIndex.search(query, limit);
+        if (indexed.isPresent()) {
+            List<String> ids = indexed.get();
+            return customerRepository.findAllById(ids)
+                    .collectMap(Customer::getId)
+                    .flatMapIterable(byId -> inOrder(ids, byId))
+                    .map(customerService::convertToDTO);
+        }
+        if (customerBackfill.isNameKeyReady()) {
+            return searchByNameKey(query, limit);
+        }
+        return customerRepository.findByNameContainingIgnoreCase(query, Limit.of(limit))
+                .map(customerService::convertToDTO);
+    }
+
+    /**
+     * The two-phase {@code nameKey} search of {@link CustomerService}, so v1 and v2 rank the
+     * same query alike: prefix matches first, then names containing the query, the second
+     * query only running when the first left room under the limit. The contains phase has
+     * the same server-side time and row caps; on timeout only the prefix matches are returned.
+     */
+    private Flux<CustomerDTO> searchByNameKey(String query, int limit) {
+        String key = Customer.normalizeName(query);
+        if (key == null || key.isEmpty()) {
+            return Flux.empty();
+        }
+        return mongoTemplate.find(CustomerService.nameKeyPrefixQuery(key, limit), Customer.class)
+                .collectList()
+                .flatMapMany(prefixed -> limit != 0 && prefixed.size() >= limit
+                        ? Flux.fromIterable(prefixed)
+                        : Flux.concat(Flux.fromIterable(prefixed), mongoTemplate.find(
+                                CustomerService.nameKeyContainsQuery(key, limit == 0 ? 0 : limit - prefixed.size()),
+                                Customer.class)
+                                .onErrorResume(CustomerService::isExecutionTimeout, e -> {
+                                    log.warn("Name search for '{}' ran past {}; returning prefix matches only",
+                                            key, CustomerService.CONTAINS_MAX_TIME);
+                                    return Flux.empty();
+                                })))
+                .map(customerService::convertToDTO);
+    }
+
+    public Mono<Page<IdNameResponse>> getAllCustomersPaginated(Pageable pageable) {
+        log.debug("Fetching customers with pagination: {}", pageable);
+        pageable.getSort().forEach(order -> CustomerService.requireSortableField(order.getProperty()));
+        if (customerDirectory.canServe(pageable)) {
+            return Mono.just(customerDirectory.findPage(pageable));
+        }
+        Pageable ordered = CustomerService.withIdTiebreak(pageable);
+        Flux<CustomerIdName> rows = pageable.getSort().getOrderFor("name") != null
+                ? customerRepository.findAllProjectedByNameOrder(ordered)
+                : customerRepository.findAllProjectedBy(ordered);
+        return rows
+                .map(customer -> IdNameResponse.of(customer.getId(), customer.getName()))
+                .collectList()
+                .zipWith(customerRepository.count())
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    /**
+     * Every customer (or every customer with {@code status}) in name order, emitted as the
+     * cursor is read so the response can be written row by row.
+     */
+    public Flux<CustomerDTO> streamCustomers(String status) {
+        Flux<Customer> customers = status != null
+                ? customerRepository.findByStatusOrderByNameAsc(status)
+                : customerRepository.findAll();
+        return customers.map(customerService::convertToDTO);
+    }
+
+    private static List<Customer> inOrder(List<String> ids, Map<String, Customer> byId) {
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+}
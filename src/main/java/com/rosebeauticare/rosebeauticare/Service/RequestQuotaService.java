@@ -0,0 +1,148 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rosebeauticare.rosebeauticare.Exception.RateLimitExceededException;
+import com.rosebeauticare.rosebeauticare.config.QuotaProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client request quotas. Every client (API key or remote address) owns its own
+ * per-minute token bucket and sliding 24 hour window, so request threads only contend
+ * with other requests from the same client and both limits recover on their own.
+ */
+@Slf4j
+@Service
+public class RequestQuotaService {
+
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long DAY_NANOS = TimeUnit.DAYS.toNanos(1);
+
+    private final QuotaProperties properties;
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private final Cache<String, ClientQuota> clients;
+    private final Counter allowed;
+    private final Counter rejectedMinute;
+    private final Counter rejectedDaily;
+
+    @Autowired
+    public RequestQuotaService(QuotaProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RequestQuotaService(QuotaProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+        // Size-bounded only: access expiry reads the clock and records every hit, which cost
+        // more than the quota check itself. A client idle for a day finds its buckets refilled
+        // anyway, so expiring it would only free memory the size bound already caps.
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedClients())
+                .build();
+
+        this.allowed = requestCounter(meterRegistry, "allowed");
+        this.rejectedMinute = requestCounter(meterRegistry, "rejected_minute");
+        this.rejectedDaily = requestCounter(meterRegistry, "rejected_daily");
+        Gauge.builder("rosebeauticare.quota.clients", clients, Cache::estimatedSize)
+                .description("Clients currently tracked by the request quota")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consumes one request from the client's quota.
+     *
+     * @throws RateLimitExceededException when either the per-minute or the daily limit is exhausted
+     */
+    public void checkQuota(String clientKey) {
+        ClientQuota quota = clients.get(clientKey, key -> new ClientQuota());
+        long now = nanoClock.getAsLong() - origin;
+        long retryAfterNanos;
+        synchronized (quota) {
+            retryAfterNanos = quota.tryAcquire(now);
+        }
+
+        if (retryAfterNanos == 0) {
+            allowed.increment();
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(Math.abs(retryAfterNanos) + 999_999_999L));
+        if (retryAfterNanos > 0) {
+            rejectedMinute.increment();
+            log.debug("Per-minute quota exhausted for client {}", clientKey);
+            throw new RateLimitExceededException(
+                    "Rate limit of " + properties.getRequestsPerMinute() + " requests per minute exceeded",
+                    retryAfterSeconds);
+        }
+        rejectedDaily.increment();
+        log.warn("Daily quota exhausted for client {}", clientKey);
+        throw new RateLimitExceededException(
+                "Daily request limit of " + properties.getRequestsPerDay() + " exceeded",
+                retryAfterSeconds);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("rosebeauticare.quota.requests")
+                .description("Requests checked against the per-client quota")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Quota state of a single client; guarded by its own monitor.
+     */
+    private final class ClientQuota {
+        private double tokens = properties.getRequestsPerMinute();
+        private long lastRefill;
+        private long dayIndex;
+        private long currentDayCount;
+        private long previousDayCount;
+
+        /**
+         * @return 0 when the request is admitted, a positive wait in nanos when the minute bucket
+         *         is empty, or a negative wait in nanos when the daily window is exhausted
+         */
+        long tryAcquire(long now) {
+            double capacity = properties.getRequestsPerMinute();
+            double refillPerNano = capacity / MINUTE_NANOS;
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+
+            long index = now / DAY_NANOS;
+            if (index != dayIndex) {
+                previousDayCount = index == dayIndex + 1 ? currentDayCount : 0;
+                currentDayCount = 0;
+                dayIndex = index;
+            }
+            long elapsed = now - index * DAY_NANOS;
+            double elapsedFraction = (double) elapsed / DAY_NANOS;
+            long limit = properties.getRequestsPerDay();
+            double estimate = previousDayCount * (1 - elapsedFraction) + currentDayCount;
+
+            if (estimate + 1 > limit) {
+                if (currentDayCount + 1 > limit || previousDayCount == 0) {
+                    return -(DAY_NANOS - elapsed + 1);
+                }
+                double neededFraction = 1 - (double) (limit - currentDayCount - 1) / previousDayCount;
+                return -Math.max(1, (long) ((neededFraction - elapsedFraction) * DAY_NANOS));
+            }
+            if (tokens < 1) {
+                return Math.max(1, (long) ((1 - tokens) / refillPerNano));
+            }
+
+            tokens -= 1;
+            currentDayCount++;
+            return 0;
+        }
+    }
+}
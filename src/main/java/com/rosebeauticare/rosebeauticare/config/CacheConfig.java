@@ -1,21 +1,84 @@
 package com.rosebeauticare.rosebeauticare.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds one Caffeine cache per entry in {@code rosebeauticare.cache.specs}, each with its
+ * own size or weight bound, jittered expiry and optional refresh-ahead. Caches without a
+ * spec are created on first use from {@code rosebeauticare.cache.defaults}.
+ */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfig {
 
     @Bean
-    CacheManager cacheManager() {
+    CacheManager cacheManager(CacheProperties properties, List<RefreshingCacheLoader> loaders) {
+        Map<String, RefreshingCacheLoader> loadersByCache = loaders.stream()
+                .collect(Collectors.toMap(RefreshingCacheLoader::cacheName, Function.identity()));
+
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(com.github.benmanes.caffeine.cache.Caffeine.newBuilder()
-                .maximumSize(500)
-                .expireAfterWrite(600, java.util.concurrent.TimeUnit.SECONDS));
+        cacheManager.setCaffeine(builder(properties.getDefaults()));
+        properties.getSpecs().forEach((name, spec) -> {
+            Caffeine<Object, Object> builder = builder(spec);
+            if (spec.getRefreshAfterWrite() == null) {
+                cacheManager.registerCustomCache(name, builder.build());
+                return;
+            }
+            RefreshingCacheLoader loader = loadersByCache.get(name);
+            if (loader == null) {
+                throw new IllegalStateException("Cache '" + name + "' sets refresh-after-write but has no "
+                        + RefreshingCacheLoader.class.getSimpleName());
+            }
+            cacheManager.registerCustomCache(name, builder.refreshAfterWrite(spec.getRefreshAfterWrite()).build(loader));
+        });
         return cacheManager;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Estimated bytes held by each weight-bounded cache; Boot's cache metrics only report entry counts.
+     */
+    @Bean
+    MeterBinder cacheWeightMetrics(CacheManager cacheManager) {
+        return registry -> {
+            for (String name : cacheManager.getCacheNames()) {
+                if (cacheManager.getCache(name) instanceof CaffeineCache cache
+                        && cache.getNativeCache().policy().eviction().map(Policy.Eviction::isWeighted).orElse(false)) {
+                    Gauge.builder("rosebeauticare.cache.weighted.size", cache.getNativeCache(),
+                                    c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L))
+                            .description("Estimated heap held by the cache entries")
+                            .baseUnit("bytes")
+                            .tag("cache", name)
+                            .register(registry);
+                }
+            }
+        };
+    }
+
+    static Caffeine<Object, Object> builder(CacheProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfter(new JitteredExpiry(spec.getExpireAfterWrite(), spec.getExpireJitter()))
+                .recordStats();
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight().toBytes()).weigher(new CacheEntryWeigher());
+        } else {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,58 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Approximate retained heap of a cache entry in bytes, so weight-bounded caches hold a
+ * predictable amount of memory whether they contain single customers or result lists.
+ */
+class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING_OVERHEAD = 40;
+    private static final int DATE_SIZE = 24;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, estimate(key) + estimate(value));
+    }
+
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return STRING_OVERHEAD + string.length();
+        }
+        if (value instanceof CustomerDTO customer) {
+            return OBJECT_OVERHEAD + 13L * REFERENCE
+                    + estimate(customer.getId()) + estimate(customer.getName()) + estimate(customer.getPhone())
+                    + estimate(customer.getAltPhone()) + estimate(customer.getAddress())
+                    + estimate(customer.getDistrict()) + estimate(customer.getState())
+                    + estimate(customer.getStatus()) + estimate(customer.getGender())
+                    + estimate(customer.getDob()) + estimate(customer.getAge())
+                    + estimate(customer.getJoinDate()) + estimate(customer.getCreatedAt())
+                    + estimate(customer.getUpdatedAt());
+        }
+        if (value instanceof Date) {
+            return DATE_SIZE;
+        }
+        if (value instanceof Slice<?> slice) {
+            return OBJECT_OVERHEAD + 4L * REFERENCE + estimate(slice.getContent());
+        }
+        if (value instanceof Collection<?> collection) {
+            long total = OBJECT_OVERHEAD + (long) collection.size() * REFERENCE;
+            for (Object element : collection) {
+                total += estimate(element);
+            }
+            return total;
+        }
+        return OBJECT_OVERHEAD + 2L * REFERENCE;
+    }
+}
@@ -0,0 +1,39 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "rosebeauticare.cache")
+public class CacheProperties {
+
+    /** Spec applied to caches that are created on first use without an entry in {@link #specs}. */
+    private Spec defaults = new Spec();
+
+    /** Per-cache specs, keyed by cache name; these caches are created at startup. */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Data
+    public static class Spec {
+
+        /** Upper bound on the estimated heap held by the cache's entries; takes precedence over maximumSize. */
+        private DataSize maximumWeight;
+
+        /** Upper bound on the number of entries, used when no maximumWeight is set. */
+        private long maximumSize = 500;
+
+        /** Base time an entry lives after it was written or refreshed. */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        /** Fraction (0-1) of expireAfterWrite by which each entry's lifetime is randomly shortened or lengthened. */
+        private double expireJitter = 0.1;
+
+        /** Age after which a read triggers a background reload; requires a loader registered for the cache. */
+        private Duration refreshAfterWrite;
+    }
+}
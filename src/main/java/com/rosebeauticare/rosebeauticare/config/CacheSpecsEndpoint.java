@@ -0,0 +1,71 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code cachespecs} actuator endpoint: the configured spec and the live size and hit ratio of
+ * every cache. Not exposed over HTTP by default, see {@code management.endpoints.web.exposure}.
+ */
+@Component
+@Endpoint(id = "cachespecs")
+@RequiredArgsConstructor
+public class CacheSpecsEndpoint {
+
+    private final CacheManager cacheManager;
+    private final CacheProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> cacheSpecs() {
+        Map<String, Object> caches = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (!(cacheManager.getCache(name) instanceof CaffeineCache caffeineCache)) {
+                continue;
+            }
+            Cache<Object, Object> cache = caffeineCache.getNativeCache();
+            Policy<Object, Object> policy = cache.policy();
+            CacheStats stats = cache.stats();
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("spec", describe(properties.getSpecs().getOrDefault(name, properties.getDefaults())));
+            details.put("configured", properties.getSpecs().containsKey(name));
+            details.put("refreshAhead", policy.refreshAfterWrite().isPresent());
+            details.put("estimatedSize", cache.estimatedSize());
+            policy.eviction().ifPresent(eviction -> {
+                details.put("maximum", eviction.getMaximum());
+                eviction.weightedSize().ifPresent(weight -> details.put("weightedSize", weight));
+            });
+            details.put("hitRate", stats.hitRate());
+            details.put("evictionCount", stats.evictionCount());
+            details.put("loadFailureCount", stats.loadFailureCount());
+            caches.put(name, details);
+        }
+        return caches;
+    }
+
+    private static Map<String, Object> describe(CacheProperties.Spec spec) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        if (spec.getMaximumWeight() != null) {
+            description.put("maximumWeight", spec.getMaximumWeight().toString());
+        } else {
+            description.put("maximumSize", spec.getMaximumSize());
+        }
+        description.put("expireAfterWrite", spec.getExpireAfterWrite().toString());
+        description.put("expireJitter", spec.getExpireJitter());
+        if (spec.getRefreshAfterWrite() != null) {
+            description.put("refreshAfterWrite", spec.getRefreshAfterWrite().toString());
+        }
+        return description;
+    }
+}
@@ -0,0 +1,113 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rosebeauticare.rosebeauticare.Response.Customer.DataResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.ResponseClock;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes the {@link DataResponse} envelope field by field straight to the response body.
+ * Field names and the constant version are UTF-8 encoded once, the timestamp text is shared
+ * per millisecond through {@link ResponseClock}, and only the payload and pagination go
+ * through Jackson data binding (as does the timestamp when the mapper writes dates as
+ * numeric timestamps). The output is the same JSON the default Jackson converter
+ * produces, nulls omitted.
+ */
+public class DataResponseMessageConverter extends AbstractHttpMessageConverter<DataResponse<?>> {
+
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString REQUEST_ID = new SerializedString("requestId");
+    private static final SerializableString VERSION = new SerializedString("version");
+    private static final SerializableString PAGINATION = new SerializedString("pagination");
+    private static final SerializableString CURRENT_VERSION = new SerializedString(DataResponse.VERSION);
+
+    private final ObjectMapper objectMapper;
+    /** Binds the nested values without flushing the body after each one. */
+    private final ObjectWriter valueWriter;
+    private final boolean timestampsAsText;
+
+    public DataResponseMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.timestampsAsText = !objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return DataResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected DataResponse<?> readInternal(Class<? extends DataResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("DataResponse is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(DataResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            write(response, generator);
+        }
+    }
+
+    void write(DataResponse<?> response, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(SUCCESS);
+        generator.writeBoolean(response.isSuccess());
+        if (response.getData() != null) {
+            generator.writeFieldName(DATA);
+            valueWriter.writeValue(generator, response.getData());
+        }
+        if (response.getMessage() != null) {
+            generator.writeFieldName(MESSAGE);
+            generator.writeString(response.getMessage());
+        }
+        if (response.getTimestamp() != null) {
+            generator.writeFieldName(TIMESTAMP);
+            if (timestampsAsText) {
+                generator.writeString(ResponseClock.encode(response.getTimestamp()));
+            } else {
+                valueWriter.writeValue(generator, response.getTimestamp());
+            }
+        }
+        if (response.getRequestId() != null) {
+            generator.writeFieldName(REQUEST_ID);
+            generator.writeString(response.getRequestId());
+        }
+        if (response.getVersion() != null) {
+            generator.writeFieldName(VERSION);
+            if (DataResponse.VERSION.equals(response.getVersion())) {
+                generator.writeString(CURRENT_VERSION);
+            } else {
+                generator.writeString(response.getVersion());
+            }
+        }
+        if (response.getPagination() != null) {
+            generator.writeFieldName(PAGINATION);
+            valueWriter.writeValue(generator, response.getPagination());
+        }
+        generator.writeEndObject();
+    }
+}
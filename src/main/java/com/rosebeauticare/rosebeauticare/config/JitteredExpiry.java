@@ -0,0 +1,47 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Expire-after-write with each entry's lifetime drawn uniformly from
+ * {@code base * (1 ± jitter)}, so entries loaded together (after a deploy or a burst of
+ * traffic) do not all expire in the same instant and send their readers to MongoDB at once.
+ */
+class JitteredExpiry implements Expiry<Object, Object> {
+
+    private final long baseNanos;
+    private final long spreadNanos;
+
+    JitteredExpiry(Duration base, double jitter) {
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("expire-jitter must be in [0, 1), was " + jitter);
+        }
+        this.baseNanos = base.toNanos();
+        this.spreadNanos = (long) (baseNanos * jitter);
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return lifetime();
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return lifetime();
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    long lifetime() {
+        if (spreadNanos == 0) {
+            return baseNanos;
+        }
+        return baseNanos - spreadNanos + ThreadLocalRandom.current().nextLong(2 * spreadNanos + 1);
+    }
+}
@@ -0,0 +1,20 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on service classes. HTTP, repository, MongoDB driver and cache
+ * meters are registered by Spring Boot; their histograms are configured in
+ * application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,9 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.config.EnableMongoAuditing;
+
+@Configuration
+@EnableMongoAuditing
+public class MongoAuditingConfig {
+}
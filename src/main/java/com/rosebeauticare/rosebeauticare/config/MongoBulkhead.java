@@ -0,0 +1,119 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.rosebeauticare.rosebeauticare.Exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of MongoDB calls in flight, covering both {@code CustomerRepository}
+ * methods and direct {@code MongoTemplate} operations, including the execution of the
+ * {@link BulkOperations} it hands out. With virtual threads the request count is no longer
+ * bounded by the Tomcat pool, so without this every request would queue on the MongoDB
+ * connection pool and time out there instead. Calls that cannot get a permit within the
+ * acquire timeout are rejected with 503 and a Retry-After header.
+ *
+ * <p>Permits are per thread: a repository method that runs template operations, or a
+ * template operation nested in another, holds one permit. For {@code stream} queries the
+ * permit covers opening the cursor and its first batch, not the later batches.
+ */
+@Slf4j
+@Aspect
+@Component
+@ConditionalOnProperty(name = "rosebeauticare.mongo.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class MongoBulkhead {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final Counter rejected;
+    /** Set while the current thread holds a permit. */
+    private final ThreadLocal<Boolean> holding = new ThreadLocal<>();
+
+    public MongoBulkhead(MeterRegistry meterRegistry,
+                         @Value("${rosebeauticare.mongo.bulkhead.max-concurrent:100}") int maxConcurrent,
+                         @Value("${rosebeauticare.mongo.bulkhead.acquire-timeout:PT2S}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.rejected = Counter.builder("rosebeauticare.mongo.bulkhead.rejected")
+                .description("MongoDB calls rejected because the bulkhead was full")
+                .register(meterRegistry);
+        Gauge.builder("rosebeauticare.mongo.bulkhead.in-use", permits, p -> maxConcurrent - p.availablePermits())
+                .description("MongoDB calls currently holding a bulkhead permit")
+                .register(meterRegistry);
+    }
+
+    @Around("target(com.rosebeauticare.rosebeauticare.Repository.CustomerRepository)"
+            + " || target(org.springframework.data.mongodb.core.MongoOperations)")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = withPermit(joinPoint.getSignature().toShortString(), joinPoint::proceed);
+        return result instanceof BulkOperations operations ? guarded(operations) : result;
+    }
+
+    /**
+     * Wraps {@code operations} so that {@code execute()} takes a permit; the fluent methods
+     * keep returning the wrapper.
+     */
+    BulkOperations guarded(BulkOperations operations) {
+        if (Proxy.isProxyClass(operations.getClass())) {
+            return operations;
+        }
+        return (BulkOperations) Proxy.newProxyInstance(BulkOperations.class.getClassLoader(),
+                new Class<?>[]{BulkOperations.class}, (proxy, method, args) -> {
+                    Call call = () -> {
+                        try {
+                            return method.invoke(operations, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    };
+                    Object result = "execute".equals(method.getName())
+                            ? withPermit("BulkOperations.execute()", call)
+                            : call.run();
+                    return result == operations ? proxy : result;
+                });
+    }
+
+    private Object withPermit(String operation, Call call) throws Throwable {
+        if (holding.get() != null) {
+            return call.run();
+        }
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting for a database connection", 1);
+        }
+        if (!acquired) {
+            rejected.increment();
+            log.warn("Bulkhead full, rejecting {}", operation);
+            throw new ServiceBusyException("Database is busy, please retry shortly", 1);
+        }
+        holding.set(Boolean.TRUE);
+        try {
+            return call.run();
+        } finally {
+            holding.remove();
+            permits.release();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Object run() throws Throwable;
+    }
+}
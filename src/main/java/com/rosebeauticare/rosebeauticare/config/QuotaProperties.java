@@ -0,0 +1,30 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "rosebeauticare.quota")
+public class QuotaProperties {
+
+    /** Switches request quota enforcement on or off for all /api endpoints. */
+    private boolean enabled = true;
+
+    /** Sustained requests per minute allowed for a single client (token bucket capacity and refill rate). */
+    private int requestsPerMinute = 120;
+
+    /** Requests allowed for a single client over a sliding 24 hour window. */
+    private long requestsPerDay = 5000;
+
+    /** Header carrying the client API key; clients without a configured key are keyed by remote address. */
+    private String apiKeyHeader = "X-API-Key";
+
+    /** API keys that get a quota of their own; any other header value is ignored. */
+    private Set<String> apiKeys = new LinkedHashSet<>();
+
+    /** Upper bound of tracked clients; the least used ones are evicted first once it is reached. */
+    private long maxTrackedClients = 100_000;
+}
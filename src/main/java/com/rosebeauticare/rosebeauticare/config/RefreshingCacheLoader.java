@@ -0,0 +1,13 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+/**
+ * Loader for a cache configured with {@code refresh-after-write}. Caffeine calls it on a
+ * background executor once an entry is older than the refresh interval, while readers keep
+ * getting the current value. Returning {@code null} removes the entry.
+ */
+public interface RefreshingCacheLoader extends CacheLoader<Object, Object> {
+
+    String cacheName();
+}
@@ -0,0 +1,48 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.rosebeauticare.rosebeauticare.Service.RequestQuotaService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Charges each /api request to a client quota. Clients sending one of the configured API
+ * keys get a quota per key; everyone else, including clients sending an unknown key, is
+ * charged by address. The address is {@link HttpServletRequest#getRemoteAddr()}, which
+ * behind a proxy is the forwarded client address once
+ * {@code server.forward-headers-strategy} is set.
+ */
+@RequiredArgsConstructor
+public class RequestQuotaInterceptor implements HandlerInterceptor {
+
+    private final RequestQuotaService requestQuotaService;
+    private final QuotaProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        requestQuotaService.checkQuota(resolveClientKey(request));
+        return true;
+    }
+
+    String resolveClientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(properties.getApiKeyHeader());
+        if (StringUtils.hasText(apiKey) && isConfiguredKey(apiKey.trim())) {
+            return "key:" + apiKey.trim();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private boolean isConfiguredKey(String apiKey) {
+        byte[] candidate = apiKey.getBytes(StandardCharsets.UTF_8);
+        boolean match = false;
+        for (String configured : properties.getApiKeys()) {
+            match |= MessageDigest.isEqual(candidate, configured.getBytes(StandardCharsets.UTF_8));
+        }
+        return match;
+    }
+}
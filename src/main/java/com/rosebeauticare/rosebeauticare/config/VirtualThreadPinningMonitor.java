@@ -0,0 +1,76 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Reports virtual threads pinned to their carrier (blocking inside {@code synchronized} or
+ * native code) by streaming the JFR {@code jdk.VirtualThreadPinned} event in-process.
+ * Each pin is counted and its top frames are logged so the offending code can be found
+ * without attaching a profiler.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Counter pinned;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${rosebeauticare.virtual-threads.pinning-threshold:PT0.02S}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = Counter.builder("rosebeauticare.virtual-threads.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+            stream.onEvent("jdk.VirtualThreadPinned", event -> {
+                pinned.increment();
+                if (log.isWarnEnabled()) {
+                    List<RecordedFrame> frames = event.getStackTrace() != null
+                            ? event.getStackTrace().getFrames() : List.of();
+                    StringBuilder trace = new StringBuilder();
+                    for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+                        RecordedFrame frame = frames.get(i);
+                        trace.append("\n\tat ").append(frame.getMethod().getType().getName())
+                                .append('.').append(frame.getMethod().getName())
+                                .append(':').append(frame.getLineNumber());
+                    }
+                    log.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), trace);
+                }
+            });
+            stream.startAsync();
+            log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+        } catch (RuntimeException e) {
+            log.warn("JFR is unavailable, virtual thread pinning is not monitored: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
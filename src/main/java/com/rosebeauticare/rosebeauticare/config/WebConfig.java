@@ -0,0 +1,36 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rosebeauticare.rosebeauticare.Service.RequestQuotaService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(QuotaProperties.class)
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RequestQuotaService requestQuotaService;
+    private final QuotaProperties quotaProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (quotaProperties.isEnabled()) {
+            registry.addInterceptor(new RequestQuotaInterceptor(requestQuotaService, quotaProperties))
+                    .addPathPatterns("/api/**");
+        }
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Ahead of the Jackson converter, which would otherwise claim DataResponse
+        converters.add(0, new DataResponseMessageConverter(objectMapper));
+    }
+}
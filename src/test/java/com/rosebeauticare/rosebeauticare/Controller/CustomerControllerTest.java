@@ -0,0 +1,141 @@
+package com.rosebeauticare.rosebeauticare.Controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Exception.GlobalExceptionHandler;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNamePhoneResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNameResponse;
+import com.rosebeauticare.rosebeauticare.Service.CustomerBulkService;
+import com.rosebeauticare.rosebeauticare.Service.CustomerExportService;
+import com.rosebeauticare.rosebeauticare.Service.CustomerLookupCache;
+import com.rosebeauticare.rosebeauticare.Service.CustomerService;
+import com.rosebeauticare.rosebeauticare.Service.CustomerWriteEpoch;
+import com.rosebeauticare.rosebeauticare.Service.JoinDateHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CustomerControllerTest {
+
+    private final CustomerService customerService = mock(CustomerService.class);
+    private final CustomerWriteEpoch customerWriteEpoch = new CustomerWriteEpoch();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        CustomerController controller = new CustomerController(customerService, mock(CustomerExportService.class),
+                mock(CustomerBulkService.class), mock(CustomerLookupCache.class), mock(JoinDateHistogram.class),
+                customerWriteEpoch, new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void customerReadCarriesItsVersionAsETag() throws Exception {
+        when(customerService.getCustomerById("1")).thenReturn(customer(4L));
+
+        mockMvc.perform(get("/api/customers/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""))
+                .andExpect(jsonPath("$.data.name").value("Priya"));
+    }
+
+    @Test
+    void matchingIfNoneMatchOnACustomerIsABodiless304() throws Exception {
+        when(customerService.getCustomerById("1")).thenReturn(customer(4L));
+
+        mockMvc.perform(get("/api/customers/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void staleIfNoneMatchOnACustomerReturnsTheCustomer() throws Exception {
+        when(customerService.getCustomerById("1")).thenReturn(customer(5L));
+
+        mockMvc.perform(get("/api/customers/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-4\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-5\""));
+    }
+
+    @Test
+    void matchingIfNoneMatchOnAListIsA304WithoutAQuery() throws Exception {
+        String eTag = customerWriteEpoch.listETag();
+
+        mockMvc.perform(get("/api/customers/basic").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/customers").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/customers/search").param("query", "pri").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(customerService, never()).getAllCustomersBasic();
+        verify(customerService, never()).getAllCustomersPaginated(any());
+        verify(customerService, never()).searchCustomers(any(), eq(50));
+    }
+
+    @Test
+    void aWriteChangesTheListETag() throws Exception {
+        String eTag = customerWriteEpoch.listETag();
+        customerWriteEpoch.advance();
+        when(customerService.getAllCustomersBasic()).thenReturn(List.of(IdNameResponse.of("1", "Priya")));
+
+        mockMvc.perform(get("/api/customers/basic").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, customerWriteEpoch.listETag()))
+                .andExpect(jsonPath("$.data[0].name").value("Priya"));
+    }
+
+    @Test
+    void activeBasicListsIdNameAndPhoneOnly() throws Exception {
+        when(customerService.getActiveCustomersBasic())
+                .thenReturn(List.of(IdNamePhoneResponse.of("1", "Priya", "9000000001")));
+
+        mockMvc.perform(get("/api/customers/active/basic"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].phone").value("9000000001"))
+                .andExpect(jsonPath("$.data[0].status").doesNotExist());
+        verify(customerService, never()).getCustomerBasicInfo(any());
+    }
+
+    @Test
+    void concurrentModificationIsAConflict() throws Exception {
+        when(customerService.updateCustomer(eq("1"), any(CustomerDTO.class)))
+                .thenThrow(new OptimisticLockingFailureException("Version 4 is stale"));
+
+        mockMvc.perform(patch("/api/customers/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Priya\",\"phone\":\"9000000001\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Customer was modified concurrently, reload and retry"));
+    }
+
+    private static CustomerDTO customer(long version) {
+        return CustomerDTO.builder().id("1").name("Priya").phone("9000000001").version(version).build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.rosebeauticare.rosebeauticare.Index;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNameResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CustomerDirectoryTest {
+
+    private CustomerDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(
+                IntStream.range(0, 5000).mapToObj(i -> customer("id" + i, "customer " + (4999 - i))));
+        directory = new CustomerDirectory(mongoTemplate, new SimpleMeterRegistry(), true);
+        directory.load();
+    }
+
+    @Test
+    void servesLookupsAndNameOrderedPages() {
+        assertThat(directory.size()).isEqualTo(5000);
+        assertThat(directory.find("id42")).contains(IdNameResponse.of("id42", "customer 4957"));
+        assertThat(directory.find("missing")).isEmpty();
+
+        assertThat(directory.findPage(PageRequest.of(0, 2, Sort.by("name"))).getContent())
+                .extracting(IdNameResponse::getName)
+                .containsExactly("customer 0", "customer 1");
+        assertThat(directory.findPage(PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "name"))).getContent())
+                .extracting(IdNameResponse::getName)
+                .containsExactly("customer 999");
+        assertThat(directory.canServe(PageRequest.of(0, 1, Sort.by("joinDate")))).isFalse();
+    }
+
+    @Test
+    void ordersNamesLikeTheCaseInsensitiveNameIndex() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(Stream.of(
+                customer("b", "eve"), customer("a", "Eve"), customer("c", "\u00c9lise"), customer("d", "Zara"),
+                customer("e", "elise")));
+        CustomerDirectory collated = new CustomerDirectory(mongoTemplate, new SimpleMeterRegistry(), true);
+        collated.load();
+
+        assertThat(collated.findAll()).extracting(IdNameResponse::getId).containsExactly("e", "c", "a", "b", "d");
+    }
+
+    @Test
+    void followsRenamesAndDeletes() {
+        directory.onCustomerChanged(CustomerChangedEvent.updated(customer("id1", "customer 4998"), customer("id1", "Aaron")));
+        directory.onCustomerChanged(CustomerChangedEvent.deleted(customer("id2", "customer 4997")));
+        directory.onCustomerChanged(CustomerChangedEvent.created(customer("new", "zed")));
+
+        assertThat(directory.size()).isEqualTo(5000);
+        assertThat(directory.find("id2")).isEmpty();
+        assertThat(directory.findAll().get(0)).isEqualTo(IdNameResponse.of("id1", "Aaron"));
+        assertThat(directory.findAll().get(4999)).isEqualTo(IdNameResponse.of("new", "zed"));
+        assertThat(directory.estimatedFootprintBytes()).isPositive();
+    }
+
+    @Test
+    void keepsChangesMadeWhileLoading() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        CustomerDirectory loading = new CustomerDirectory(mongoTemplate, new SimpleMeterRegistry(), true);
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(
+                Stream.of(customer("a", "mona"), customer("b", "lena")).peek(customer -> {
+                    if (customer.getId().equals("b")) {
+                        loading.onCustomerChanged(CustomerChangedEvent.created(customer("c", "abby")));
+                        loading.onCustomerChanged(CustomerChangedEvent.deleted(customer("a", "mona")));
+                    }
+                }));
+        loading.load();
+
+        assertThat(loading.findAll()).extracting(IdNameResponse::getName).containsExactly("abby", "lena");
+        loading.onCustomerChanged(CustomerChangedEvent.created(customer("d", "kate")));
+        assertThat(loading.findAll()).extracting(IdNameResponse::getName).containsExactly("abby", "kate", "lena");
+    }
+
+    private static Customer customer(String id, String name) {
+        return Customer.builder().id(id).name(name).status("ACTIVE").build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.rosebeauticare.rosebeauticare.Index;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NameTrigramIndexTest {
+
+    private NameTrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(Stream.of(
+                customer("1", "Priya Raman"),
+                customer("2", "Ramya Krishnan"),
+                customer("3", "Anitha")));
+        index = new NameTrigramIndex(mongoTemplate, true);
+        index.load();
+    }
+
+    @Test
+    void findsSubstringsIgnoringCase() {
+        assertThat(index.search("RAM", 0)).contains(List.of("1", "2"));
+        assertThat(index.search("ya kri", 0)).contains(List.of("2"));
+        assertThat(index.search("xyz", 0)).contains(List.of());
+    }
+
+    @Test
+    void shortQueriesFallBackToDatabase() {
+        assertThat(index.search("ra", 10)).isEmpty();
+    }
+
+    @Test
+    void followsCustomerWrites() {
+        Customer renamed = customer("3", "Anitha Ramesh");
+        index.onCustomerChanged(CustomerChangedEvent.updated(customer("3", "Anitha"), renamed));
+        index.onCustomerChanged(CustomerChangedEvent.deleted(customer("1", "Priya Raman")));
+
+        assertThat(index.search("ram", 0)).contains(List.of("2", "3"));
+        assertThat(index.search("ram", 1)).contains(List.of("2"));
+    }
+
+    private static Customer customer(String id, String name) {
+        return Customer.builder().id(id).name(name).build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.rosebeauticare.rosebeauticare.Index;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PhoneIndexTest {
+
+    private PhoneIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(Stream.of(
+                customer("9876543210"),
+                customer("0123456789"),
+                customer("9000012345")));
+        index = new PhoneIndex(mongoTemplate, true, 500);
+        index.load();
+    }
+
+    @Test
+    void ranksPrefixThenSuffixThenInfixMatches() {
+        assertThat(index.findPhonesContaining("98")).contains(List.of("9876543210"));
+        assertThat(index.findPhonesContaining("2345")).contains(List.of("9000012345", "0123456789"));
+        assertThat(index.findPhonesContaining("012")).contains(List.of("0123456789", "9000012345"));
+        assertThat(index.findPhonesContaining("555")).contains(List.of());
+    }
+
+    @Test
+    void supportsExactMembership() {
+        assertThat(index.contains("0123456789")).contains(true);
+        assertThat(index.contains("0123456788")).contains(false);
+        assertThat(index.findPhonesContaining("98a")).isEmpty();
+    }
+
+    @Test
+    void followsPhoneChanges() {
+        index.onCustomerChanged(CustomerChangedEvent.updated(customer("9876543210"), customer("9876500000")));
+
+        assertThat(index.contains("9876543210")).contains(false);
+        assertThat(index.findPhonesContaining("0000")).contains(List.of("9876500000", "9000012345"));
+    }
+
+    @Test
+    void bulkLoadSortsDeduplicatesAndSkipsInvalidPhones() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 5000; i > 0; i--) {
+            customers.add(customer("9" + String.format("%09d", i)));
+        }
+        customers.add(customer("9000000001"));
+        customers.add(customer("12345"));
+        customers.add(Customer.builder().id("x").build());
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(customers.stream());
+        PhoneIndex loaded = new PhoneIndex(mongoTemplate, true, 500);
+        loaded.load();
+
+        assertThat(loaded.size()).isEqualTo(5000);
+        assertThat(loaded.contains("9000000001")).contains(true);
+        assertThat(loaded.contains("9000005000")).contains(true);
+        assertThat(loaded.contains("9000005001")).contains(false);
+        assertThat(loaded.findPhonesContaining("900000490")).contains(List.of(
+                "9000004900", "9000004901", "9000004902", "9000004903", "9000004904",
+                "9000004905", "9000004906", "9000004907", "9000004908", "9000004909"));
+        assertThat(loaded.findPhonesContaining("04999")).contains(List.of("9000004999"));
+
+        loaded.onCustomerChanged(CustomerChangedEvent.created(customer("8000000000")));
+        assertThat(loaded.contains("8000000000")).contains(true);
+        assertThat(loaded.size()).isEqualTo(5001);
+    }
+
+    @Test
+    void leavesQueriesMatchingMoreThanTheMaximumToMongo() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(Stream.of(
+                customer("9000000001"), customer("9000000002"), customer("9000000003")));
+        PhoneIndex capped = new PhoneIndex(mongoTemplate, true, 2);
+        capped.load();
+
+        assertThat(capped.findPhonesContaining("900000000")).isEmpty();
+        assertThat(capped.findPhonesContaining("0000000")).isEmpty();
+        assertThat(capped.findPhonesContaining("0001")).contains(List.of("9000000001"));
+    }
+
+    private static Customer customer(String phone) {
+        return Customer.builder().id(phone).name("Customer " + phone).phone(phone).build();
+    }
+}
@@ -0,0 +1,477 @@
+package com.rosebeauticare.rosebeauticare.LoadTest;
+
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Repository.CustomerRepository;
+import com.rosebeauticare.rosebeauticare.Repository.Projection.CustomerIdName;
+import com.rosebeauticare.rosebeauticare.Repository.Projection.CustomerIdNamePhone;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Heap-backed {@link CustomerRepository} for the load harness. Every call first waits for
+ * the configured latency plus a uniformly distributed jitter, standing in for the network
+ * round trip and server time of MongoDB. Documents are copied on the way in and out, like
+ * a real driver, and the unique phone index is enforced with {@link DuplicateKeyException}.
+ */
+public class InMemoryCustomerRepository implements CustomerRepository {
+
+    private static final Comparator<String> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+    /** Every name sort the services issue carries the case-insensitive name collation. */
+    private static final Comparator<String> NAME_ORDER = Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER);
+
+    private final ConcurrentHashMap<String, Customer> customers;
+    private final ConcurrentHashMap<String, String> idByPhone;
+    private final long latencyNanos;
+    private final long jitterNanos;
+
+    public InMemoryCustomerRepository(Duration latency, Duration jitter) {
+        this.customers = new ConcurrentHashMap<>();
+        this.idByPhone = new ConcurrentHashMap<>();
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+    }
+
+    private InMemoryCustomerRepository(InMemoryCustomerRepository shared) {
+        this.customers = shared.customers;
+        this.idByPhone = shared.idByPhone;
+        this.latencyNanos = 0;
+        this.jitterNanos = 0;
+    }
+
+    /**
+     * A view of the same documents that answers without simulated latency, for callers that
+     * add their own, non-blocking delay.
+     */
+    InMemoryCustomerRepository withoutLatency() {
+        return new InMemoryCustomerRepository(this);
+    }
+
+    /**
+     * Stores {@code customer} without simulated latency, for seeding before a run.
+     */
+    public Customer seed(Customer customer) {
+        return store(customer);
+    }
+
+    // ---- CustomerRepository
+
+    @Override
+    public List<Customer> findAllByOrderByNameAsc() {
+        return query(c -> true, Sort.by("name"));
+    }
+
+    @Override
+    public List<Customer> findByNameContainingIgnoreCase(String query) {
+        return query(nameContains(query), Sort.unsorted());
+    }
+
+    @Override
+    public List<Customer> findByNameContainingIgnoreCase(String query, Limit limit) {
+        List<Customer> matches = query(nameContains(query), Sort.unsorted());
+        return limit.isLimited() ? matches.stream().limit(limit.max()).toList() : matches;
+    }
+
+    @Override
+    public boolean existsByPhone(String phone) {
+        delay();
+        return idByPhone.containsKey(phone);
+    }
+
+    @Override
+    public Optional<Customer> findByPhone(String phone) {
+        delay();
+        return Optional.ofNullable(idByPhone.get(phone)).map(customers::get).map(InMemoryCustomerRepository::copy);
+    }
+
+    @Override
+    public List<Customer> findByPhoneIn(Collection<String> phones) {
+        Set<String> wanted = new HashSet<>(phones);
+        return query(c -> wanted.contains(c.getPhone()), Sort.unsorted());
+    }
+
+    @Override
+    public Page<Customer> findAllByOrderByNameAsc(Pageable pageable) {
+        return page(c -> true, Sort.by("name"), pageable, Function.identity());
+    }
+
+    @Override
+    public Page<Customer> findByNameContainingIgnoreCase(String query, Pageable pageable) {
+        return page(nameContains(query), pageable.getSort(), pageable, Function.identity());
+    }
+
+    @Override
+    public Page<CustomerIdName> findAllProjectedBy(Pageable pageable) {
+        return page(c -> true, pageable.getSort(), pageable, InMemoryCustomerRepository::idName);
+    }
+
+    @Override
+    public Page<CustomerIdName> findAllProjectedByNameOrder(Pageable pageable) {
+        return findAllProjectedBy(pageable);
+    }
+
+    @Override
+    public Optional<CustomerIdName> findProjectedById(String id) {
+        delay();
+        return Optional.ofNullable(customers.get(id)).map(InMemoryCustomerRepository::idName);
+    }
+
+    @Override
+    public List<Customer> findByStatus(String status) {
+        return query(c -> Objects.equals(status, c.getStatus()), Sort.unsorted());
+    }
+
+    @Override
+    public List<Customer> findByStatusOrderByNameAsc(String status) {
+        return query(c -> Objects.equals(status, c.getStatus()), Sort.by("name"));
+    }
+
+    @Override
+    public long countByStatus(String status) {
+        delay();
+        return customers.values().stream().filter(c -> Objects.equals(status, c.getStatus())).count();
+    }
+
+    @Override
+    public List<Customer> findByJoinDateBetween(LocalDate startDate, LocalDate endDate) {
+        return query(c -> c.getJoinDate() != null && c.getJoinDate().isAfter(startDate)
+                && c.getJoinDate().isBefore(endDate), Sort.unsorted());
+    }
+
+    @Override
+    public List<Customer> findByJoinDateAfter(LocalDate date) {
+        return query(c -> c.getJoinDate() != null && c.getJoinDate().isAfter(date), Sort.unsorted());
+    }
+
+    @Override
+    public List<Customer> findByNameOrPhoneContainingIgnoreCase(String query) {
+        Pattern pattern = Pattern.compile(query, Pattern.CASE_INSENSITIVE);
+        return query(c -> matches(pattern, c.getName()) || matches(pattern, c.getPhone()), Sort.unsorted());
+    }
+
+    @Override
+    public List<Customer> findByStatusAndJoinDateAfter(String status, LocalDate date) {
+        return query(c -> Objects.equals(status, c.getStatus()) && c.getJoinDate() != null
+                && !c.getJoinDate().isBefore(date), Sort.unsorted());
+    }
+
+    @Override
+    public List<CustomerIdName> findAllBasicInfo() {
+        delay();
+        return customers.values().stream().map(InMemoryCustomerRepository::idName).toList();
+    }
+
+    @Override
+    public List<CustomerIdNamePhone> findActiveCustomersBasic() {
+        delay();
+        return select(c -> "ACTIVE".equals(c.getStatus()), Sort.by("name", "_id"))
+                .map(c -> (CustomerIdNamePhone) new IdNamePhone(c.getId(), c.getName(), c.getPhone()))
+                .toList();
+    }
+
+    @Override
+    public List<Customer> findByNameContainingAndStatus(String name, String status) {
+        Pattern pattern = Pattern.compile(name, Pattern.CASE_INSENSITIVE);
+        return query(c -> matches(pattern, c.getName()) && Objects.equals(status, c.getStatus()), Sort.unsorted());
+    }
+
+    // ---- CrudRepository / PagingAndSortingRepository
+
+    @Override
+    public <S extends Customer> S save(S entity) {
+        delay();
+        Customer stored = store(entity);
+        entity.setId(stored.getId());
+        entity.setVersion(stored.getVersion());
+        return entity;
+    }
+
+    @Override
+    public <S extends Customer> List<S> saveAll(Iterable<S> entities) {
+        delay();
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            Customer stored = store(entity);
+            entity.setId(stored.getId());
+            entity.setVersion(stored.getVersion());
+            saved.add(entity);
+        }
+        return saved;
+    }
+
+    @Override
+    public <S extends Customer> S insert(S entity) {
+        if (entity.getId() != null && customers.containsKey(entity.getId())) {
+            throw new DuplicateKeyException("E11000 duplicate key error: _id " + entity.getId());
+        }
+        return save(entity);
+    }
+
+    @Override
+    public <S extends Customer> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<Customer> findById(String id) {
+        delay();
+        return Optional.ofNullable(customers.get(id)).map(InMemoryCustomerRepository::copy);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        delay();
+        return customers.containsKey(id);
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return query(c -> true, Sort.unsorted());
+    }
+
+    @Override
+    public List<Customer> findAll(Sort sort) {
+        return query(c -> true, sort);
+    }
+
+    @Override
+    public Page<Customer> findAll(Pageable pageable) {
+        return page(c -> true, pageable.getSort(), pageable, Function.identity());
+    }
+
+    @Override
+    public List<Customer> findAllById(Iterable<String> ids) {
+        delay();
+        return StreamSupport.stream(ids.spliterator(), false)
+                .map(customers::get)
+                .filter(Objects::nonNull)
+                .map(InMemoryCustomerRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        delay();
+        return customers.size();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delay();
+        Customer removed = customers.remove(id);
+        if (removed != null && removed.getPhone() != null) {
+            idByPhone.remove(removed.getPhone(), id);
+        }
+    }
+
+    @Override
+    public void delete(Customer entity) {
+        deleteById(entity.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Customer> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        delay();
+        customers.clear();
+        idByPhone.clear();
+    }
+
+    // ---- QueryByExampleExecutor: not used by the application
+
+    @Override
+    public <S extends Customer> Optional<S> findOne(Example<S> example) {
+        throw new UnsupportedOperationException("Query by example is not supported by the load harness");
+    }
+
+    @Override
+    public <S extends Customer> List<S> findAll(Example<S> example) {
+        throw new UnsupportedOperationException("Query by example is not supported by the load harness");
+    }
+
+    @Override
+    public <S extends Customer> List<S> findAll(Example<S> example, Sort sort) {
+        throw new UnsupportedOperationException("Query by example is not supported by the load harness");
+    }
+
+    @Override
+    public <S extends Customer> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw new UnsupportedOperationException("Query by example is not supported by the load harness");
+    }
+
+    @Override
+    public <S extends Customer> long count(Example<S> example) {
+        throw new UnsupportedOperationException("Query by example is not supported by the load harness");
+    }
+
+    @Override
+    public <S extends Customer> boolean exists(Example<S> example) {
+        throw new UnsupportedOperationException("Query by example is not supported by the load harness");
+    }
+
+    @Override
+    public <S extends Customer, R> R findBy(Example<S> example,
+                                            Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw new UnsupportedOperationException("Query by example is not supported by the load harness");
+    }
+
+    // ---- internals
+
+    private Customer store(Customer entity) {
+        Customer stored = copy(entity);
+        if (stored.getId() == null) {
+            stored.setId(ObjectId.get().toHexString());
+        }
+        // Versioned like MongoTemplate: 0 on insert, incremented on each later save
+        stored.setVersion(entity.getVersion() == null ? 0L : entity.getVersion() + 1);
+        String phone = stored.getPhone();
+        if (phone != null) {
+            String owner = idByPhone.putIfAbsent(phone, stored.getId());
+            if (owner != null && !owner.equals(stored.getId())) {
+                throw new DuplicateKeyException("E11000 duplicate key error: phone " + phone);
+            }
+        }
+        Customer previous = customers.put(stored.getId(), stored);
+        if (previous != null && previous.getPhone() != null && !previous.getPhone().equals(phone)) {
+            idByPhone.remove(previous.getPhone(), stored.getId());
+        }
+        return stored;
+    }
+
+    private List<Customer> query(Predicate<Customer> filter, Sort sort) {
+        delay();
+        return select(filter, sort).map(InMemoryCustomerRepository::copy).toList();
+    }
+
+    private <T> Page<T> page(Predicate<Customer> filter, Sort sort, Pageable pageable, Function<Customer, T> mapper) {
+        delay();
+        List<Customer> matches = select(filter, sort).toList();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches.stream().map(InMemoryCustomerRepository::copy).map(mapper).toList());
+        }
+        List<T> content = matches.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(InMemoryCustomerRepository::copy)
+                .map(mapper)
+                .toList();
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
+    private Stream<Customer> select(Predicate<Customer> filter, Sort sort) {
+        Stream<Customer> matches = customers.values().stream().filter(filter);
+        Comparator<Customer> comparator = comparator(sort);
+        return comparator != null ? matches.sorted(comparator) : matches;
+    }
+
+    private static Comparator<Customer> comparator(Sort sort) {
+        Comparator<Customer> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Customer> next = switch (order.getProperty()) {
+                case "name" -> Comparator.comparing(Customer::getName, NAME_ORDER);
+                case "joinDate" -> Comparator.comparing(Customer::getJoinDate,
+                        Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "id", "_id" -> Comparator.comparing(Customer::getId, NULLS_FIRST);
+                default -> throw new UnsupportedOperationException("Unsupported sort property " + order.getProperty());
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private static Predicate<Customer> nameContains(String query) {
+        String needle = query.toLowerCase();
+        return c -> c.getName() != null && c.getName().toLowerCase().contains(needle);
+    }
+
+    private static boolean matches(Pattern pattern, String value) {
+        return value != null && pattern.matcher(value).find();
+    }
+
+    private static Customer copy(Customer customer) {
+        return customer.toBuilder().build();
+    }
+
+    private static CustomerIdName idName(Customer customer) {
+        return new IdName(customer.getId(), customer.getName());
+    }
+
+    private void delay() {
+        long nanos = latencyNanos + (jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0);
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record IdName(String id, String name) implements CustomerIdName {
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+    private record IdNamePhone(String id, String name, String phone) implements CustomerIdNamePhone {
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getPhone() {
+            return phone;
+        }
+    }
+}
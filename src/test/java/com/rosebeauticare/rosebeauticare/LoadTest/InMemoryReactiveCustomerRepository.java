@@ -0,0 +1,66 @@
+package com.rosebeauticare.rosebeauticare.LoadTest;
+
+import com.rosebeauticare.rosebeauticare.Repository.ReactiveCustomerRepository;
+import org.springframework.data.domain.Page;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ReactiveCustomerRepository} over the documents of an {@link InMemoryCustomerRepository},
+ * for the v2 endpoints in the load harness. Each call answers from the blocking method of the
+ * same name and parameters, and emits after the configured latency plus jitter on a timer
+ * rather than by sleeping, as the reactive driver would. Methods with no blocking
+ * counterpart, such as those taking a {@code Publisher}, are unsupported.
+ */
+final class InMemoryReactiveCustomerRepository {
+
+    private InMemoryReactiveCustomerRepository() {
+    }
+
+    static ReactiveCustomerRepository create(InMemoryCustomerRepository repository, Duration latency, Duration jitter) {
+        InMemoryCustomerRepository immediate = repository.withoutLatency();
+        long latencyNanos = latency.toNanos();
+        long jitterNanos = jitter.toNanos();
+        return (ReactiveCustomerRepository) Proxy.newProxyInstance(ReactiveCustomerRepository.class.getClassLoader(),
+                new Class<?>[]{ReactiveCustomerRepository.class}, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.invoke(immediate, args);
+                    }
+                    Method blocking = blockingCounterpart(method);
+                    Duration delay = Duration.ofNanos(latencyNanos
+                            + (jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0));
+                    Mono<Object> result = Mono.delay(delay).flatMap(tick -> Mono.justOrEmpty(invoke(blocking, immediate, args)));
+                    if (Mono.class.isAssignableFrom(method.getReturnType())) {
+                        return result.flatMap(value -> value instanceof Optional<?> optional
+                                ? Mono.justOrEmpty(optional) : Mono.just(value));
+                    }
+                    return result.flatMapMany(value -> Flux.fromIterable(
+                            value instanceof Page<?> page ? page.getContent() : (Iterable<?>) value));
+                });
+    }
+
+    private static Method blockingCounterpart(Method method) {
+        try {
+            return InMemoryCustomerRepository.class.getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException("No in-memory counterpart for " + method);
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.rosebeauticare.rosebeauticare.LoadTest;
+
+import com.rosebeauticare.rosebeauticare.Repository.ReactiveCustomerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * Replaces the MongoDB-backed {@code CustomerRepository} with {@link InMemoryCustomerRepository},
+ * and the reactive one used by the v2 endpoints with a view of the same documents.
+ * Only picked up when passed explicitly as a source by {@link LoadTestRunner}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class LoadTestConfiguration {
+
+    @Bean
+    public InMemoryCustomerRepository customerRepository(
+            @Value("${loadtest.repository.latency:2ms}") Duration latency,
+            @Value("${loadtest.repository.jitter:3ms}") Duration jitter) {
+        return new InMemoryCustomerRepository(latency, jitter);
+    }
+
+    @Bean
+    public ReactiveCustomerRepository reactiveCustomerRepository(
+            InMemoryCustomerRepository customerRepository,
+            @Value("${loadtest.repository.latency:2ms}") Duration latency,
+            @Value("${loadtest.repository.jitter:3ms}") Duration jitter) {
+        return InMemoryReactiveCustomerRepository.create(customerRepository, latency, jitter);
+    }
+}
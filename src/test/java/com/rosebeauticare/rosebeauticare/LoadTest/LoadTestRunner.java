@@ -0,0 +1,373 @@
+package com.rosebeauticare.rosebeauticare.LoadTest;
+
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.RosebeauticareApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Offline load harness. Boots the application on a random port against
+ * {@link InMemoryCustomerRepository}, seeds it, then drives an open-loop mix of create, get,
+ * search, list and patch requests at a fixed target rate and prints per-endpoint throughput
+ * and latency percentiles.
+ *
+ * <p>Latency is measured from the moment each request was scheduled to be sent, not from
+ * when it actually left, so a stalled server shows up as queueing time instead of being
+ * hidden by a slower send rate (coordinated omission).
+ *
+ * <p>With {@code loadtest.callers} set, the harness runs closed-loop instead: that many
+ * concurrent callers each send their next request as soon as the previous one completes,
+ * which is the shape needed to compare thread models at a given concurrency. Latency is then
+ * measured from each send.
+ *
+ * <p>All options are Spring properties passed as {@code --key=value}, so application
+ * settings such as {@code --spring.threads.virtual.enabled=true} can be varied between runs:
+ * <pre>
+ * ./mvnw -Ploadtest -DskipTests verify -Dloadtest.args="--loadtest.rate=500 --loadtest.duration=60s"
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+    /** v1 endpoints, and the reactive v2 reads ({@code v2_get=..} in the mix) for comparison. */
+    enum Endpoint { CREATE, GET, SEARCH, LIST, PATCH, V2_GET, V2_SEARCH, V2_LIST }
+
+    private static final String[] FIRST_NAMES = {"Priya", "Ramya", "Anitha", "Lakshmi", "Divya", "Kavya", "Meena",
+            "Sangeetha", "Revathi", "Deepa", "Nithya", "Swathi", "Janani", "Harini", "Keerthana"};
+    private static final String[] LAST_NAMES = {"Raman", "Krishnan", "Sundaram", "Natarajan", "Subramanian",
+            "Venkatesh", "Balaji", "Murugan", "Selvam", "Ganesan", "Rajendran", "Pandian"};
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Map<Endpoint, Integer> mix;
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+    private final List<Target> targets = new ArrayList<>();
+    private final AtomicLong nextPhone = new AtomicLong(7_000_000_000L);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int maxInFlight;
+
+    private LoadTestRunner(HttpClient client, String baseUrl, Map<Endpoint, Integer> mix, int maxInFlight) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+        this.maxInFlight = maxInFlight;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        // System properties outrank application.properties but yield to --key=value arguments
+        harnessProperties().forEach(System.getProperties()::putIfAbsent);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                RosebeauticareApplication.class, LoadTestConfiguration.class)
+                .run(args);
+        int exitCode = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Environment env = context.getEnvironment();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            LoadTestRunner runner = new LoadTestRunner(client, "http://localhost:" + port + "/api/customers",
+                    parseMix(env.getProperty("loadtest.mix", "get=50,search=20,list=15,create=10,patch=5")),
+                    env.getProperty("loadtest.max-in-flight", Integer.class, 5000));
+
+            runner.seed(context.getBean(InMemoryCustomerRepository.class), env.getProperty("loadtest.seed", Integer.class, 10_000));
+            int rate = env.getProperty("loadtest.rate", Integer.class, 200);
+            int callers = env.getProperty("loadtest.callers", Integer.class, 0);
+            Duration warmup = env.getProperty("loadtest.warmup", Duration.class, Duration.ofSeconds(10));
+            Duration duration = env.getProperty("loadtest.duration", Duration.class, Duration.ofSeconds(30));
+            String load = callers > 0 ? callers + " callers" : rate + " req/s";
+
+            System.out.printf("Warming up for %ds with %s%n", warmup.toSeconds(), load);
+            runner.run(rate, callers, warmup);
+            runner.stats.values().forEach(Stats::reset);
+
+            System.out.printf("Measuring for %ds with %s%n", duration.toSeconds(), load);
+            long start = System.nanoTime();
+            runner.run(rate, callers, duration);
+            runner.report(System.out, System.nanoTime() - start, load, env);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static Map<String, String> harnessProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.data.mongodb.uri", "mongodb://localhost:1/loadtest?serverSelectionTimeoutMS=50&connectTimeoutMS=50");
+        properties.put("spring.data.mongodb.auto-index-creation", "false");
+        properties.put("spring.data.mongodb.repositories.type", "none");
+        properties.put("rosebeauticare.quota.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.springframework.data.mongodb", "WARN");
+        properties.put("logging.level.com.rosebeauticare", "WARN");
+        properties.put("logging.level.org.mongodb.driver", "OFF");
+        properties.put("spring.main.banner-mode", "off");
+        return properties;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            mix.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    private void seed(InMemoryCustomerRepository repository, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            Customer customer = repository.seed(Customer.builder()
+                    .name(randomName(random) + " " + i)
+                    .phone(Long.toString(9_000_000_000L + i))
+                    .address("12 Temple Street")
+                    .district("Madurai")
+                    .state("Tamil Nadu")
+                    .status(random.nextInt(10) < 8 ? "ACTIVE" : "INACTIVE")
+                    .gender("FEMALE")
+                    .dob(LocalDate.of(1970 + random.nextInt(35), 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                    .joinDate(LocalDate.now().minusDays(random.nextInt(1500)))
+                    .build());
+            targets.add(new Target(customer.getId(), customer.getName(), customer.getPhone()));
+        }
+        System.out.printf("Seeded %d customers%n", count);
+    }
+
+    private void run(int rate, int callers, Duration duration) throws InterruptedException {
+        if (callers > 0) {
+            call(callers, duration);
+        } else {
+            drive(rate, duration);
+            awaitIdle(Duration.ofSeconds(30));
+        }
+    }
+
+    /**
+     * Runs {@code callers} virtual threads for {@code duration}, each sending its next request
+     * once the previous one has completed.
+     */
+    private void call(int callers, Duration duration) throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        List<Thread> threads = new ArrayList<>(callers);
+        for (int i = 0; i < callers; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < end) {
+                    Endpoint endpoint = pick(ThreadLocalRandom.current().nextInt(totalWeight));
+                    Stats endpointStats = stats.get(endpoint);
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request(endpoint), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            endpointStats.errors.increment();
+                        }
+                    } catch (IOException e) {
+                        endpointStats.errors.increment();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent);
+                    endpointStats.latency.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    /**
+     * Sends requests on a fixed schedule for {@code duration}, regardless of how quickly the
+     * server responds.
+     */
+    private void drive(int rate, Duration duration) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                return;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = pick(ThreadLocalRandom.current().nextInt(totalWeight));
+            if (inFlight.get() >= maxInFlight) {
+                stats.get(endpoint).dropped.increment();
+                continue;
+            }
+            send(endpoint, intended);
+        }
+    }
+
+    private Endpoint pick(int roll) {
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty traffic mix");
+    }
+
+    private void send(Endpoint endpoint, long intended) {
+        HttpRequest request = request(endpoint);
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    inFlight.decrementAndGet();
+                    Stats endpointStats = stats.get(endpoint);
+                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                    endpointStats.latency.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                    if (error != null || response.statusCode() >= 400) {
+                        endpointStats.errors.increment();
+                    }
+                });
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case CREATE -> {
+                String phone = Long.toString(nextPhone.getAndIncrement());
+                yield json(HttpRequest.newBuilder(URI.create(baseUrl)), "POST", """
+                        {"name":"%s","phone":"%s","address":"4 Market Road","district":"Madurai",\
+                        "state":"Tamil Nadu","status":"ACTIVE","gender":"FEMALE"}""".formatted(randomName(random), phone));
+            }
+            case GET -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + randomTarget(random).id())).GET().build();
+            case SEARCH -> HttpRequest.newBuilder(URI.create(baseUrl + "/search?limit=20&query="
+                    + URLEncoder.encode(LAST_NAMES[random.nextInt(LAST_NAMES.length)].substring(0, 4),
+                    StandardCharsets.UTF_8))).GET().build();
+            case LIST -> HttpRequest.newBuilder(URI.create(baseUrl + "?size=20&page=" + random.nextInt(50))).GET().build();
+            case V2_GET -> HttpRequest.newBuilder(URI.create(v2Url("/" + randomTarget(random).id()))).GET().build();
+            case V2_SEARCH -> HttpRequest.newBuilder(URI.create(v2Url("/search?limit=20&query="
+                    + URLEncoder.encode(LAST_NAMES[random.nextInt(LAST_NAMES.length)].substring(0, 4),
+                    StandardCharsets.UTF_8)))).GET().build();
+            case V2_LIST -> HttpRequest.newBuilder(URI.create(v2Url("?size=20&page=" + random.nextInt(50)))).GET().build();
+            case PATCH -> {
+                Target target = randomTarget(random);
+                yield json(HttpRequest.newBuilder(URI.create(baseUrl + "/" + target.id())), "PATCH", """
+                        {"name":"%s","phone":"%s","address":"%d Lake View Road"}"""
+                        .formatted(target.name(), target.phone(), random.nextInt(1, 500)));
+            }
+        };
+    }
+
+    private String v2Url(String path) {
+        return baseUrl.replace("/api/customers", "/api/v2/customers") + path;
+    }
+
+    private static HttpRequest json(HttpRequest.Builder builder, String method, String body) {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private Target randomTarget(ThreadLocalRandom random) {
+        return targets.get(random.nextInt(targets.size()));
+    }
+
+    private static String randomName(ThreadLocalRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private void awaitIdle(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private void report(PrintStream out, long elapsedNanos, String load, Environment env) {
+        double seconds = elapsedNanos / 1e9;
+        out.println();
+        out.printf("Load %s, repository latency %s + jitter %s, virtual threads %s, bulkhead %s%n", load,
+                env.getProperty("loadtest.repository.latency", "2ms"),
+                env.getProperty("loadtest.repository.jitter", "3ms"),
+                env.getProperty("spring.threads.virtual.enabled", "false"),
+                env.getProperty("rosebeauticare.mongo.bulkhead.enabled", "true").equals("true")
+                        ? env.getProperty("rosebeauticare.mongo.bulkhead.max-concurrent", "100") : "off");
+        out.printf("%-8s %9s %7s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        long totalDropped = 0;
+        for (Map.Entry<Endpoint, Stats> entry : stats.entrySet()) {
+            Stats endpointStats = entry.getValue();
+            Histogram histogram = endpointStats.latency.copy();
+            total.add(histogram);
+            totalErrors += endpointStats.errors.sum();
+            totalDropped += endpointStats.dropped.sum();
+            printRow(out, entry.getKey().name().toLowerCase(), histogram, endpointStats.errors.sum(),
+                    endpointStats.dropped.sum(), seconds);
+        }
+        printRow(out, "total", total, totalErrors, totalDropped, seconds);
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors, long dropped,
+                                 double seconds) {
+        out.printf("%-8s %9d %7d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(), errors,
+                dropped, histogram.getTotalCount() / seconds, millis(histogram, 50), millis(histogram, 90),
+                millis(histogram, 99), millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private record Target(String id, String name, String phone) {
+    }
+
+    private static final class Stats {
+        final ConcurrentHistogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+
+        void reset() {
+            latency.reset();
+            errors.reset();
+            dropped.reset();
+        }
+    }
+}
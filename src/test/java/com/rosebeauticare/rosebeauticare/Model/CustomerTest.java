@@ -0,0 +1,39 @@
+package com.rosebeauticare.rosebeauticare.Model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerTest {
+
+    @Test
+    void normalizesNamesIntoASharedKey() {
+        assertThat(Customer.normalizeName("  José   Kumar ")).isEqualTo("jose kumar");
+        assertThat(Customer.normalizeName("PRIYA")).isEqualTo("priya");
+        assertThat(Customer.normalizeName(null)).isNull();
+    }
+
+    @Test
+    void refreshesNameKeyBeforeSave() {
+        Customer customer = Customer.builder().name("Ånya").build();
+        customer.refreshDerivedFields();
+        assertThat(customer.getNameKey()).isEqualTo("anya");
+
+        customer.setName("Meera");
+        customer.refreshDerivedFields();
+        assertThat(customer.getNameKey()).isEqualTo("meera");
+    }
+
+    @Test
+    void derivesBirthdayKeyFromDateOfBirth() {
+        Customer customer = Customer.builder().name("Meera").dob(LocalDate.of(1990, 12, 5)).build();
+        customer.refreshDerivedFields();
+        assertThat(customer.getBirthdayKey()).isEqualTo(1205);
+
+        customer.setDob(null);
+        customer.refreshDerivedFields();
+        assertThat(customer.getBirthdayKey()).isNull();
+    }
+}
@@ -0,0 +1,83 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomerAgeRefresherTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations operations = mock(BulkOperations.class);
+    private final CustomerWriteEpoch writeEpoch = new CustomerWriteEpoch();
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("customers");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CustomerAgeRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        refresher = new CustomerAgeRefresher(mongoTemplate, mock(CustomerBackfill.class), writeEpoch, cacheManager,
+                meterRegistry, true, Duration.ofDays(1), 500);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Customer.class))).thenReturn(operations);
+        when(operations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+    }
+
+    @Test
+    void rewritesOnlyStaleAgesAndEvictsThem() {
+        Customer birthdayToday = Customer.builder().id("a").dob(LocalDate.of(1990, 6, 15)).age(34).build();
+        Customer alreadyCurrent = Customer.builder().id("b").dob(LocalDate.of(1990, 6, 14)).age(35).build();
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class)))
+                .thenReturn(Stream.of(birthdayToday, alreadyCurrent));
+        cacheManager.getCache("customers").put("a", "stale");
+
+        assertThat(refresher.refresh(TODAY)).isEqualTo(1);
+
+        verify(operations, times(1)).updateOne(any(Query.class), any(Update.class));
+        assertThat(cacheManager.getCache("customers").get("a")).isNull();
+        assertThat(writeEpoch.current()).isEqualTo(1);
+        assertThat(meterRegistry.get("rosebeauticare.maintenance.age-refresh.documents").tag("result", "scanned")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void resumesFromTheLastRun() {
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenAnswer(invocation -> Stream.empty());
+        refresher.refresh(TODAY);
+        refresher.refresh(TODAY);
+
+        verify(mongoTemplate, times(1)).stream(any(Query.class), eq(Customer.class));
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(Customer.class));
+    }
+
+    @Test
+    void coversLeapDayBirthdaysOnTheLastDayOfFebruary() {
+        assertThat(CustomerAgeRefresher.birthdayRanges(LocalDate.of(2025, 2, 27), LocalDate.of(2025, 2, 28), 2))
+                .containsExactly(new int[]{227, 229});
+        assertThat(CustomerAgeRefresher.birthdayRanges(LocalDate.of(2024, 2, 27), LocalDate.of(2024, 2, 28), 2))
+                .containsExactly(new int[]{227, 228});
+        assertThat(CustomerAgeRefresher.birthdayRanges(LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 2), 4))
+                .containsExactly(new int[]{1230, 1231}, new int[]{101, 102});
+    }
+}
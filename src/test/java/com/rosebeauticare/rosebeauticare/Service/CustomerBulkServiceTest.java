@@ -0,0 +1,245 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.rosebeauticare.rosebeauticare.DTO.BulkCustomerUpdateDTO;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Response.Customer.BulkOperationResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.BulkOperationResponse.RowResult;
+import jakarta.validation.Validation;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomerBulkServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations operations = mock(BulkOperations.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager("customers");
+    private CustomerBulkService bulkService;
+
+    @BeforeEach
+    void setUp() {
+        CustomerService customerService = new CustomerService(null, null, null, null, null, null, null, null, null);
+        bulkService = new CustomerBulkService(mongoTemplate, customerService,
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, cacheManager);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(Customer.class))).thenReturn(operations);
+    }
+
+    @Test
+    void updatesAreGuardedOnTheVersionReadAndEvictTheCustomer() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class)))
+                .thenReturn(List.of(stored("1", "Priya", "9876543210", 4L)));
+        when(operations.execute()).thenReturn(result(1));
+        cacheManager.getCache("customers").put("1", CustomerDTO.builder().id("1").build());
+
+        BulkOperationResponse response = bulkService.updateCustomers(List.of(update("1", "Priya Raman")));
+
+        assertThat(response.getResults()).extracting(RowResult::getStatus).containsExactly("UPDATED");
+        ArgumentCaptor<Query> filter = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> set = ArgumentCaptor.forClass(Update.class);
+        verify(operations).updateOne(filter.capture(), set.capture());
+        assertThat(filter.getValue().getQueryObject()).isEqualTo(new Document("_id", "1").append("version", 4L));
+        assertThat(set.getValue().getUpdateObject().get("$inc", Document.class)).isEqualTo(new Document("version", 1));
+        assertThat(cacheManager.getCache("customers").get("1")).isNull();
+
+        ArgumentCaptor<CustomerChangedEvent> event = ArgumentCaptor.forClass(CustomerChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getCurrent().getName()).isEqualTo("Priya Raman");
+        assertThat(event.getValue().getCurrent().getVersion()).isEqualTo(5L);
+    }
+
+    @Test
+    void legacyDocumentsAreGuardedOnAMissingVersion() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class)))
+                .thenReturn(List.of(stored("1", "Priya", "9876543210", null)));
+        when(operations.execute()).thenReturn(result(1));
+
+        bulkService.updateCustomers(List.of(update("1", "Priya Raman")));
+
+        ArgumentCaptor<Query> filter = ArgumentCaptor.forClass(Query.class);
+        verify(operations).updateOne(filter.capture(), any(Update.class));
+        assertThat(filter.getValue().getQueryObject())
+                .isEqualTo(new Document("_id", "1").append("version", new Document("$exists", false)));
+    }
+
+    @Test
+    void rowsChangedConcurrentlyAreReportedAsConflictsWithoutEvents() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class)))
+                .thenReturn(List.of(stored("1", "Priya", "9876543210", 4L), stored("2", "Meera", "9876543211", 1L)))
+                .thenReturn(List.of(stored("1", "Priya Raman", "9876543210", 5L), stored("2", "Meera S", "9876543211", 2L)));
+        when(operations.execute()).thenReturn(result(1));
+
+        BulkOperationResponse response = bulkService.updateCustomers(List.of(
+                update("1", "Priya Raman"), update("2", "Meera K")));
+
+        assertThat(response.getResults()).extracting(RowResult::getStatus).containsExactly("UPDATED", "CONFLICT");
+        ArgumentCaptor<CustomerChangedEvent> event = ArgumentCaptor.forClass(CustomerChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getCustomerId()).isEqualTo("1");
+    }
+
+    @Test
+    void reportsRowLevelOutcomes() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class)))
+                .thenReturn(List.of(stored("1", "Priya", "9876543210", 0L), stored("2", "Meera", "9876543211", 0L)));
+        when(operations.execute()).thenThrow(bulkFailure(0, 11000, phoneDuplicate("9876543211")));
+
+        BulkOperationResponse response = bulkService.updateCustomers(List.of(
+                BulkCustomerUpdateDTO.builder().id("1").changes(CustomerDTO.builder().phone("9876543211").build()).build(),
+                BulkCustomerUpdateDTO.builder().id("2").changes(CustomerDTO.builder().name("Meera").build()).build(),
+                BulkCustomerUpdateDTO.builder().id("3").changes(CustomerDTO.builder().name("Nila").build()).build(),
+                BulkCustomerUpdateDTO.builder().id("1").changes(CustomerDTO.builder().name("Again").build()).build(),
+                BulkCustomerUpdateDTO.builder().id("4").changes(CustomerDTO.builder().phone("12").build()).build(),
+                BulkCustomerUpdateDTO.builder().id(" ").changes(CustomerDTO.builder().name("x").build()).build()));
+
+        assertThat(response.getResults()).extracting(RowResult::getStatus)
+                .containsExactly("DUPLICATE", "UPDATED", "NOT_FOUND", "REJECTED", "REJECTED", "REJECTED");
+        assertThat(response.getResults().get(1).getMessage()).isEqualTo("No changes");
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void importReportsEachRowAndInsertsTheRestInOneBulkWrite() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class)))
+                .thenReturn(List.of(Customer.builder().phone("9000000004").build()));
+        when(operations.execute()).thenThrow(bulkFailure(1, 11000, phoneDuplicate("9000000005")));
+
+        BulkOperationResponse response = bulkService.importCustomers(List.of(
+                newCustomer("Priya", "9000000001"),
+                newCustomer(null, "9000000002"),
+                newCustomer("Meera", "9000000001"),
+                newCustomer("Nila", "9000000004"),
+                newCustomer("Kavya", "9000000005"),
+                newCustomer("Anu", "9000000006")).iterator());
+
+        assertThat(response.getResults()).extracting(RowResult::getStatus)
+                .containsExactly("CREATED", "REJECTED", "DUPLICATE", "DUPLICATE", "DUPLICATE", "CREATED");
+        assertThat(response.getResults()).extracting(RowResult::getMessage).containsExactly(
+                null,
+                "Name is required",
+                "Phone number 9000000001 appears more than once",
+                "Customer with phone number 9000000004 already exists",
+                "Customer with phone number 9000000005 already exists",
+                null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Customer>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(operations).insert(inserted.capture());
+        assertThat(inserted.getValue()).extracting(Customer::getPhone)
+                .containsExactly("9000000001", "9000000005", "9000000006");
+        assertThat(inserted.getValue()).allSatisfy(customer -> {
+            assertThat(customer.getId()).isNotNull();
+            assertThat(customer.getVersion()).isZero();
+            assertThat(customer.getCreatedAt()).isNotNull();
+            assertThat(customer.getNameKey()).isNotNull();
+        });
+
+        ArgumentCaptor<CustomerChangedEvent> events = ArgumentCaptor.forClass(CustomerChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(event -> event.getCurrent().getPhone())
+                .containsExactly("9000000001", "9000000006");
+    }
+
+    @Test
+    void importKeepsRowsReadBeforeAMalformedRow() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of());
+        when(operations.execute()).thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+        Iterator<CustomerDTO> rows = new Iterator<>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public CustomerDTO next() {
+                if (read++ == 1) {
+                    throw new IllegalStateException("Unexpected character");
+                }
+                return newCustomer("Priya", "9000000001");
+            }
+        };
+
+        BulkOperationResponse response = bulkService.importCustomers(rows);
+
+        assertThat(response.getResults()).extracting(RowResult::getStatus).containsExactly("CREATED", "REJECTED");
+        assertThat(response.getResults().get(1).getIndex()).isEqualTo(1);
+    }
+
+    @Test
+    void importIgnoresClientIdsAndOnlyReportsPhoneIndexClashesAsDuplicates() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of());
+        when(operations.execute()).thenThrow(bulkFailure(0, 11000,
+                "E11000 duplicate key error collection: rosebeauticare.customers index: _id_ dup key: { _id: \"64b7f0c2a1b2c3d4e5f60718\" }"));
+        CustomerDTO withId = newCustomer("Priya", "9000000001");
+        withId.setId("64b7f0c2a1b2c3d4e5f60718");
+
+        BulkOperationResponse response = bulkService.importCustomers(List.of(withId).iterator());
+
+        assertThat(response.getResults()).extracting(RowResult::getStatus).containsExactly("FAILED");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Customer>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(operations).insert(inserted.capture());
+        assertThat(inserted.getValue().get(0).getId()).isNotNull().isNotEqualTo("64b7f0c2a1b2c3d4e5f60718");
+    }
+
+    static Customer stored(String id, String name, String phone, Long version) {
+        Customer customer = Customer.builder().id(id).name(name).phone(phone).status("ACTIVE").version(version).build();
+        customer.refreshDerivedFields();
+        return customer;
+    }
+
+    static BulkWriteResult result(int modified) {
+        return BulkWriteResult.acknowledged(0, modified, 0, modified, List.of(), List.of());
+    }
+
+    static BulkOperationException bulkFailure(int index, int code, String message) {
+        List<BulkWriteError> errors = List.of(new BulkWriteError(code, message, new BsonDocument(), index));
+        return new BulkOperationException(message, new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of()), errors, null,
+                new ServerAddress(), Set.of()));
+    }
+
+    private static String phoneDuplicate(String phone) {
+        return "E11000 duplicate key error collection: rosebeauticare.customers index: phone dup key: { phone: \"" + phone + "\" }";
+    }
+
+    private static CustomerDTO newCustomer(String name, String phone) {
+        return CustomerDTO.builder().name(name).phone(phone).status("ACTIVE").build();
+    }
+
+    private static BulkCustomerUpdateDTO update(String id, String name) {
+        return BulkCustomerUpdateDTO.builder().id(id).changes(CustomerDTO.builder().name(name).build()).build();
+    }
+}
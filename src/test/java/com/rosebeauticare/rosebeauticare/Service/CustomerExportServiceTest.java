@@ -0,0 +1,86 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomerExportServiceTest {
+
+    @Test
+    void quotesOnlyFieldsThatNeedIt() throws IOException {
+        assertThat(csv("Priya")).isEqualTo("Priya");
+        assertThat(csv("12, Main Road")).isEqualTo("\"12, Main Road\"");
+        assertThat(csv("Priya \"P\" K")).isEqualTo("\"Priya \"\"P\"\" K\"");
+        assertThat(csv("Anna-Nagar")).isEqualTo("Anna-Nagar");
+    }
+
+    @Test
+    void writesFormulasAsText() throws IOException {
+        assertThat(csv("=HYPERLINK(\"http://x\",\"y\")")).isEqualTo("\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\"");
+        assertThat(csv("+91 90000")).isEqualTo("\"'+91 90000\"");
+        assertThat(csv("-2+3")).isEqualTo("\"'-2+3\"");
+        assertThat(csv("@SUM(A1)")).isEqualTo("\"'@SUM(A1)\"");
+        assertThat(csv("\tcmd")).isEqualTo("\"'\tcmd\"");
+    }
+
+    @Test
+    void ndjsonExportFlushesOncePerBatchNotPerRow() throws IOException {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(Stream.of(
+                Customer.builder().id("1").name("Priya").phone("9000000001").build(),
+                Customer.builder().id("2").name("Meera").phone("9000000002").build(),
+                Customer.builder().id("3").name("Anu").phone("9000000003").build()));
+        CustomerExportService exportService = new CustomerExportService(mongoTemplate,
+                new CustomerService(null, null, null, null, null, null, null, null, null),
+                JsonMapper.builder().findAndAddModules().build());
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+
+        exportService.exportCustomersByStatus("ACTIVE", ExportFormat.NDJSON, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(3);
+        assertThat(flushes).hasValue(1);
+    }
+
+    @Test
+    void statusExportSortsThroughTheCollatedStatusIndex() throws IOException {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(Stream.empty());
+        new CustomerExportService(mongoTemplate, null, null)
+                .exportCustomersByStatus("ACTIVE", ExportFormat.CSV, new ByteArrayOutputStream());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(Customer.class));
+        assertThat(query.getValue().getSortObject()).isEqualTo(new Document("name", 1).append("_id", 1));
+        assertThat(query.getValue().getCollation()).contains(CustomerService.NAME_COLLATION);
+    }
+
+    private static String csv(String value) throws IOException {
+        StringWriter writer = new StringWriter();
+        CustomerExportService.writeCsvField(writer, value);
+        return writer.toString();
+    }
+}
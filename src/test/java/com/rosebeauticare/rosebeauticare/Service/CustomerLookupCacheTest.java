@@ -0,0 +1,47 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerLookupCacheTest {
+
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager("customers", "missingCustomers");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CustomerLookupCache lookupCache =
+            new CustomerLookupCache(cacheManager, meterRegistry, Duration.ofMinutes(10));
+
+    @Test
+    void createClearsNegativeEntryAndDeleteSetsIt() {
+        lookupCache.markMissing("1");
+        assertThat(lookupCache.isKnownMissing("1")).isTrue();
+
+        Customer customer = Customer.builder().id("1").name("Priya").build();
+        lookupCache.onCustomerChanged(CustomerChangedEvent.created(customer));
+        assertThat(lookupCache.isKnownMissing("1")).isFalse();
+
+        lookupCache.onCustomerChanged(CustomerChangedEvent.deleted(customer));
+        assertThat(lookupCache.isKnownMissing("1")).isTrue();
+    }
+
+    @Test
+    void countsLookupsOfRecentlyWrittenIdsOnly() {
+        lookupCache.onCustomerChanged(CustomerChangedEvent.created(Customer.builder().id("1").build()));
+        lookupCache.recordLookup("1");
+        cacheManager.getCache("customers").put("1", CustomerDTO.builder().id("1").build());
+        lookupCache.recordLookup("1");
+        lookupCache.recordLookup("2");
+
+        assertThat(meterRegistry.counter("rosebeauticare.customers.recent-write.lookups", "result", "hit").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("rosebeauticare.customers.recent-write.lookups", "result", "miss").count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,122 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Exception.ResourceNotFoundException;
+import com.rosebeauticare.rosebeauticare.Index.CustomerDirectory;
+import com.rosebeauticare.rosebeauticare.Index.NameTrigramIndex;
+import com.rosebeauticare.rosebeauticare.Index.PhoneIndex;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Repository.CustomerRepository;
+import com.rosebeauticare.rosebeauticare.config.CacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Id lookups through the real {@link CacheConfig} manager, where {@code customers} is a
+ * refreshing loading cache.
+ */
+@SpringJUnitConfig({CacheConfig.class, CustomerCacheLoader.class, CustomerLookupCache.class, CustomerService.class,
+        CustomerServiceCacheTest.Support.class})
+@TestPropertySource(properties = {
+        "rosebeauticare.cache.specs.customers.maximum-size=100",
+        "rosebeauticare.cache.specs.customers.refresh-after-write=5m",
+        "rosebeauticare.cache.specs.missingCustomers.maximum-size=100",
+        "rosebeauticare.cache.specs.missingCustomers.expire-after-write=30s"
+})
+class CustomerServiceCacheTest {
+
+    @MockitoBean
+    CustomerRepository customerRepository;
+    @MockitoBean
+    MongoTemplate mongoTemplate;
+    @MockitoBean
+    NameTrigramIndex nameTrigramIndex;
+    @MockitoBean
+    PhoneIndex phoneIndex;
+    @MockitoBean
+    CustomerDirectory customerDirectory;
+    @MockitoBean
+    CustomerStatistics customerStatistics;
+    @MockitoBean
+    CustomerBackfill customerBackfill;
+
+    @Autowired
+    CustomerService customerService;
+    @Autowired
+    CustomerLookupCache customerLookupCache;
+    @Autowired
+    CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void knownMissingIdIsAnsweredWithoutARead() {
+        customerLookupCache.markMissing("gone");
+
+        assertThatThrownBy(() -> customerService.getCustomerById("gone"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void unknownIdCostsOneReadThenNone() {
+        when(customerRepository.findById("nobody")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> customerService.getCustomerById("nobody"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(customerRepository, times(1)).findById("nobody");
+
+        clearInvocations(customerRepository);
+        assertThatThrownBy(() -> customerService.getCustomerById("nobody"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void existingIdIsLoadedOnceAndThenServedFromCache() {
+        when(customerRepository.findById("1"))
+                .thenReturn(Optional.of(Customer.builder().id("1").name("Priya").version(3L).build()));
+
+        assertThat(customerService.getCustomerById("1").getName()).isEqualTo("Priya");
+        assertThat(customerService.getCustomerById("1").getVersion()).isEqualTo(3L);
+        verify(customerRepository, times(1)).findById("1");
+    }
+
+    @Configuration
+    static class Support {
+        /** Converts the Duration-typed {@code @Value}s, as Boot does outside this slice. */
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
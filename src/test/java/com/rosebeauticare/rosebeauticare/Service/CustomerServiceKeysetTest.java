@@ -0,0 +1,93 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Response.Customer.IdNameResponse;
+import com.rosebeauticare.rosebeauticare.Response.Customer.KeysetPageResponse;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Seek predicates built by {@link CustomerService#getCustomersKeyset}, where MongoDB orders
+ * null sort values before all others.
+ */
+class CustomerServiceKeysetTest {
+
+    private static final LocalDate JOINED = LocalDate.of(2024, 3, 1);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final CustomerService customerService =
+            new CustomerService(null, mongoTemplate, null, null, null, null, null, null, null);
+
+    @Test
+    void lastRowWithoutAJoinDateIssuesANullCursor() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of(
+                Customer.builder().id("a").name("Anu").joinDate(JOINED).build(),
+                Customer.builder().id("b").name("Bala").joinDate(null).build(),
+                Customer.builder().id("c").name("Chitra").joinDate(null).build()));
+
+        KeysetPageResponse<IdNameResponse> page =
+                customerService.getCustomersKeyset("joinDate", Sort.Direction.DESC, 2, null, false);
+
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor()))
+                .isEqualTo(new KeysetCursor("joinDate", Sort.Direction.DESC, null, "b"));
+    }
+
+    @Test
+    void ascendingSeekBreaksTiesOnIdAndMovesPastTheValue() {
+        assertThat(seek(new KeysetCursor("joinDate", Sort.Direction.ASC, JOINED.toString(), "b")))
+                .isEqualTo(or(
+                        new Document("joinDate", new Document("$gt", JOINED)),
+                        new Document("joinDate", JOINED).append("_id", new Document("$gt", "b"))));
+    }
+
+    @Test
+    void descendingSeekEndsWithTheNullBand() {
+        assertThat(seek(new KeysetCursor("name", Sort.Direction.DESC, "Priya", "b")))
+                .isEqualTo(or(
+                        new Document("name", new Document("$lt", "Priya")),
+                        new Document("name", "Priya").append("_id", new Document("$lt", "b")),
+                        new Document("name", null)));
+    }
+
+    @Test
+    void ascendingSeekFromTheNullBandContinuesIntoTheValues() {
+        assertThat(seek(new KeysetCursor("joinDate", Sort.Direction.ASC, null, "b")))
+                .isEqualTo(or(
+                        new Document("joinDate", null).append("_id", new Document("$gt", "b")),
+                        new Document("joinDate", new Document("$ne", null))));
+    }
+
+    @Test
+    void descendingSeekFromTheNullBandStaysInIt() {
+        assertThat(seek(new KeysetCursor("joinDate", Sort.Direction.DESC, null, "b")))
+                .isEqualTo(new Document("joinDate", null).append("_id", new Document("$lt", "b")));
+    }
+
+    private Document seek(KeysetCursor cursor) {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of());
+        customerService.getCustomersKeyset(cursor.sortField(), cursor.direction(), 20, cursor.encode(), false);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Customer.class));
+        return query.getValue().getQueryObject();
+    }
+
+    private static Document or(Document... branches) {
+        return new Document("$or", List.of(branches));
+    }
+}
@@ -0,0 +1,93 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Index.NameTrigramIndex;
+import com.rosebeauticare.rosebeauticare.Index.PhoneIndex;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Name-or-phone search with the phone index answering digit queries.
+ */
+class CustomerServiceSearchTest {
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final NameTrigramIndex nameTrigramIndex = mock(NameTrigramIndex.class);
+    private final PhoneIndex phoneIndex = mock(PhoneIndex.class);
+    private final CustomerBackfill customerBackfill = mock(CustomerBackfill.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private CustomerService customerService;
+
+    @BeforeEach
+    void setUp() {
+        customerService = new CustomerService(customerRepository, mongoTemplate, nameTrigramIndex, phoneIndex, null, null, null,
+                customerBackfill, null);
+        when(nameTrigramIndex.search(any(), anyInt())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void phoneMatchesComeFirstAndNamesWithTheDigitsFollow() {
+        when(phoneIndex.findPhonesContaining("4321")).thenReturn(Optional.of(List.of("9000004321")));
+        when(customerRepository.findByPhoneIn(List.of("9000004321")))
+                .thenReturn(List.of(customer("1", "Priya", "9000004321")));
+        when(customerRepository.findByNameContainingIgnoreCase("4321"))
+                .thenReturn(List.of(customer("2", "Flat 4321 Stores", "9000000002"), customer("1", "Priya", "9000004321")));
+
+        List<CustomerDTO> results = customerService.searchByNameOrPhone("4321");
+
+        assertThat(results).extracting(CustomerDTO::getId).containsExactly("1", "2");
+        verify(customerRepository, never()).findByNameOrPhoneContainingIgnoreCase(any());
+    }
+
+    @Test
+    void noLocalMatchIsAskedOfMongo() {
+        when(phoneIndex.findPhonesContaining("4321")).thenReturn(Optional.of(List.of()));
+        when(customerRepository.findByNameOrPhoneContainingIgnoreCase("\\Q4321\\E"))
+                .thenReturn(List.of(customer("3", "Meera", "9000004321")));
+
+        assertThat(customerService.searchByNameOrPhone("4321")).extracting(CustomerDTO::getId).containsExactly("3");
+    }
+
+    @Test
+    void queriesTheIndexCannotAnswerInFullAreAskedOfMongo() {
+        when(phoneIndex.findPhonesContaining("9")).thenReturn(Optional.empty());
+        when(customerRepository.findByNameOrPhoneContainingIgnoreCase("\\Q9\\E"))
+                .thenReturn(List.of(customer("1", "Priya", "9000004321"), customer("3", "Meera", "9000000009")));
+
+        assertThat(customerService.searchByNameOrPhone("9")).hasSize(2);
+        verify(customerRepository, never()).findByPhoneIn(any());
+    }
+
+    @Test
+    void aTimedOutContainsPhaseKeepsThePrefixMatches() {
+        when(customerBackfill.isNameKeyReady()).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class)))
+                .thenReturn(List.of(customer("1", "Priya", "9000000001")))
+                .thenThrow(new UncategorizedMongoDbException("timed out",
+                        new MongoExecutionTimeoutException(50, "operation exceeded time limit")));
+
+        assertThat(customerService.searchCustomers("pri")).extracting(CustomerDTO::getId).containsExactly("1");
+    }
+
+    private static Customer customer(String id, String name, String phone) {
+        return Customer.builder().id(id).name(name).phone(phone).build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerServiceTest {
+
+    @Test
+    void splitsBirthdayWindowsAtTheYearEnd() {
+        assertThat(CustomerService.birthdayRanges(310, 316, false)).containsExactly(new int[]{310, 316});
+        assertThat(CustomerService.birthdayRanges(1228, 103, false))
+                .containsExactly(new int[]{1228, 1231}, new int[]{101, 103});
+        assertThat(CustomerService.birthdayRanges(615, 615, true))
+                .containsExactly(new int[]{615, 1231}, new int[]{101, 614});
+        assertThat(CustomerService.birthdayRanges(101, 101, true)).containsExactly(new int[]{101, 1231});
+    }
+
+    @Test
+    void boundsPrefixRanges() {
+        assertThat(CustomerService.prefixUpperBound("pri")).isEqualTo("prj");
+        assertThat("priya").isGreaterThanOrEqualTo("pri").isLessThan(CustomerService.prefixUpperBound("pri"));
+    }
+
+    @Test
+    void boundsPrefixRangesEndingInTheLastChar() {
+        assertThat(CustomerService.prefixUpperBound("a\uffff")).isEqualTo("b");
+        assertThat(CustomerService.prefixUpperBound("ab\uffff\uffff")).isEqualTo("ac");
+        assertThat("a\uffff\uffffz").isLessThan(CustomerService.prefixUpperBound("a\uffff"));
+        assertThat(CustomerService.prefixUpperBound("\uffff")).isNull();
+    }
+
+    @Test
+    void breaksOffsetPageTiesOnIdInTheLastOrdersDirection() {
+        assertThat(CustomerService.withIdTiebreak(PageRequest.of(3, 20, Sort.by(Sort.Direction.DESC, "name"))))
+                .isEqualTo(PageRequest.of(3, 20, Sort.by(Sort.Direction.DESC, "name", "_id")));
+        assertThat(CustomerService.withIdTiebreak(PageRequest.of(0, 20, Sort.by("joinDate"))).getSort())
+                .isEqualTo(Sort.by("joinDate", "_id"));
+        assertThat(CustomerService.withIdTiebreak(Pageable.unpaged())).isEqualTo(Pageable.unpaged());
+    }
+
+    @Test
+    void capsTheContainsPhaseOnTheServer() {
+        assertThat(CustomerService.nameKeyContainsQuery("pri", 0).getLimit()).isEqualTo(CustomerService.CONTAINS_MATCH_CAP);
+        assertThat(CustomerService.nameKeyContainsQuery("pri", 19).getLimit()).isEqualTo(19);
+        assertThat(CustomerService.nameKeyContainsQuery("pri", 19).getMeta().getMaxTimeMsec())
+                .isEqualTo(CustomerService.CONTAINS_MAX_TIME.toMillis());
+    }
+}
@@ -0,0 +1,118 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Exception.DuplicateCustomerException;
+import com.rosebeauticare.rosebeauticare.Index.PhoneIndex;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Repository.CustomerRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Create and update paths of {@link CustomerService} against a mocked repository.
+ */
+class CustomerServiceWriteTest {
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final PhoneIndex phoneIndex = mock(PhoneIndex.class);
+    private CustomerService customerService;
+
+    @BeforeEach
+    void setUp() {
+        customerService = new CustomerService(customerRepository, mongoTemplate, null, phoneIndex, null, null, null,
+                null, mock(ApplicationEventPublisher.class));
+        when(phoneIndex.contains(any())).thenReturn(Optional.of(false));
+        when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void legacyDocumentIsStampedWithVersionZeroBeforeItIsSaved() {
+        Customer legacy = Customer.builder().id("1").name("Priya").phone("9000000001").build();
+        when(customerRepository.findById("1")).thenReturn(Optional.of(legacy));
+
+        CustomerDTO updated = customerService.updateCustomer("1", CustomerDTO.builder().name("Priya K").build());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        InOrder order = inOrder(mongoTemplate, customerRepository);
+        order.verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(Customer.class));
+        order.verify(customerRepository).save(legacy);
+        assertThat(query.getValue().getQueryObject())
+                .containsEntry("_id", "1")
+                .containsEntry("version", new Document("$exists", false));
+        assertThat(update.getValue().getUpdateObject()).containsEntry("$set", new Document("version", 0L));
+        assertThat(legacy.getVersion()).isZero();
+        assertThat(updated.getName()).isEqualTo("Priya K");
+    }
+
+    @Test
+    void versionedDocumentIsSavedWithoutAdoption() {
+        Customer current = Customer.builder().id("1").name("Priya").phone("9000000001").version(2L).build();
+        when(customerRepository.findById("1")).thenReturn(Optional.of(current));
+
+        customerService.updateCustomer("1", CustomerDTO.builder().name("Priya K").build());
+
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(Customer.class));
+        assertThat(current.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void phoneTheIndexRulesOutIsNotLookedUp() {
+        customerService.createCustomer(newCustomer());
+
+        verify(customerRepository, never()).findByPhone(any());
+        verify(customerRepository).save(any(Customer.class));
+    }
+
+    @Test
+    void phoneIsLookedUpWhileTheIndexIsUnavailable() {
+        when(phoneIndex.contains("9000000001")).thenReturn(Optional.empty());
+        when(customerRepository.findByPhone("9000000001"))
+                .thenReturn(Optional.of(Customer.builder().id("7").name("Meera").phone("9000000001").build()));
+
+        assertThatThrownBy(() -> customerService.createCustomer(newCustomer()))
+                .isInstanceOfSatisfying(DuplicateCustomerException.class, e -> {
+                    assertThat(e.getExistingId()).isEqualTo("7");
+                    assertThat(e.getExistingName()).isEqualTo("Meera");
+                });
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+
+    @Test
+    void duplicateKeyOnSaveIsReportedWithTheExistingCustomer() {
+        when(customerRepository.save(any(Customer.class))).thenThrow(new DuplicateKeyException("E11000"));
+        when(customerRepository.findByPhone("9000000001"))
+                .thenReturn(Optional.of(Customer.builder().id("7").name("Meera").phone("9000000001").build()));
+
+        assertThatThrownBy(() -> customerService.createCustomer(newCustomer()))
+                .isInstanceOfSatisfying(DuplicateCustomerException.class, e -> {
+                    assertThat(e.getMessage()).isEqualTo("Customer with phone number 9000000001 already exists");
+                    assertThat(e.getExistingId()).isEqualTo("7");
+                });
+    }
+
+    private static CustomerDTO newCustomer() {
+        return CustomerDTO.builder().name("Priya").phone("9000000001").status("ACTIVE").build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerWriteEpochTest {
+
+    private final CustomerWriteEpoch writeEpoch = new CustomerWriteEpoch();
+
+    @Test
+    void keysAreStableUntilTheNextWrite() {
+        Object before = writeEpoch.key("search", "priya", 20);
+        assertThat(writeEpoch.key("search", "priya", 20)).isEqualTo(before);
+        assertThat(writeEpoch.key("search", "priya", 50)).isNotEqualTo(before);
+
+        writeEpoch.onCustomerChanged(CustomerChangedEvent.created(Customer.builder().id("1").build()));
+
+        assertThat(writeEpoch.key("search", "priya", 20)).isNotEqualTo(before);
+        assertThat(writeEpoch.current()).isEqualTo(1);
+    }
+
+    @Test
+    void listETagIsWeakAndChangesWithEachWrite() {
+        CustomerWriteEpoch epoch = new CustomerWriteEpoch(Duration.ofDays(1));
+        String before = epoch.listETag();
+        assertThat(before).startsWith("W/\"").endsWith("\"");
+
+        epoch.advance();
+
+        assertThat(epoch.listETag()).isNotEqualTo(before);
+    }
+}
@@ -0,0 +1,88 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Event.CustomerChangedEvent;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Response.Customer.JoinHistogramResponse;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JoinDateHistogramTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final CustomerWriteEpoch writeEpoch = new CustomerWriteEpoch();
+    private JoinDateHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(LocalDate.of(2025, 6, 15).atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault());
+        histogram = new JoinDateHistogram(mongoTemplate, new ConcurrentMapCache("joinHistogram"), writeEpoch, 100, clock);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Customer.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(
+                        row("2025-01-03", "ACTIVE", 2),
+                        row("2025-01-20", "INACTIVE", 1),
+                        row("2025-03-09", "ACTIVE", 4)), new Document()));
+    }
+
+    @Test
+    void foldsDaysIntoWholePeriods() {
+        JoinHistogramResponse response = histogram.histogram(HistogramInterval.MONTH,
+                LocalDate.of(2025, 1, 10), LocalDate.of(2025, 3, 1));
+
+        assertThat(response.getBuckets()).extracting(JoinHistogramResponse.Bucket::getStart)
+                .containsExactly(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1));
+        JoinHistogramResponse.Bucket january = response.getBuckets().get(0);
+        assertThat(january.getEnd()).isEqualTo(LocalDate.of(2025, 2, 1));
+        assertThat(january.getTotal()).isEqualTo(3);
+        assertThat(january.getByStatus()).isEqualTo(Map.of("ACTIVE", 2L, "INACTIVE", 1L));
+        assertThat(response.getBuckets().get(1).getTotal()).isZero();
+    }
+
+    @Test
+    void servesClosedPeriodsFromCacheUntilAWriteTouchesThem() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        histogram.histogram(HistogramInterval.MONTH, from, to);
+        histogram.histogram(HistogramInterval.MONTH, from, to);
+        verify(mongoTemplate, times(1)).aggregate(any(Aggregation.class), eq(Customer.class), eq(Document.class));
+
+        Customer customer = Customer.builder().id("1").status("ACTIVE").joinDate(LocalDate.of(2025, 2, 14)).build();
+        CustomerChangedEvent created = CustomerChangedEvent.created(customer);
+        writeEpoch.onCustomerChanged(created);
+        histogram.onCustomerChanged(created);
+
+        histogram.histogram(HistogramInterval.MONTH, from, to);
+        verify(mongoTemplate, times(2)).aggregate(any(Aggregation.class), eq(Customer.class), eq(Document.class));
+    }
+
+    @Test
+    void alwaysRecomputesTheOpenPeriod() {
+        LocalDate today = LocalDate.of(2025, 6, 15);
+        histogram.histogram(HistogramInterval.WEEK, today, today);
+        histogram.histogram(HistogramInterval.WEEK, today, today);
+        verify(mongoTemplate, times(2)).aggregate(any(Aggregation.class), eq(Customer.class), eq(Document.class));
+    }
+
+    private static Document row(String day, String status, int count) {
+        return new Document("_id", new Document("day", day).append("status", status)).append("count", count);
+    }
+}
@@ -0,0 +1,50 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsSortValues() {
+        KeysetCursor cursor = new KeysetCursor("name", Sort.Direction.ASC, "Priya", "66a1");
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void keepsANullSortValueApartFromAnEmptyOne() {
+        KeysetCursor missing = new KeysetCursor("joinDate", Sort.Direction.DESC, null, "66a1");
+        KeysetCursor empty = new KeysetCursor("name", Sort.Direction.DESC, "", "66a1");
+
+        assertThat(KeysetCursor.decode(missing.encode())).isEqualTo(missing);
+        assertThat(KeysetCursor.decode(empty.encode())).isEqualTo(empty);
+        assertThat(KeysetCursor.decode(missing.encode()).lastValue()).isNull();
+    }
+
+    @Test
+    void rejectsTokensItDidNotIssue() {
+        String unmarked = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("name\u001FASC\u001FPriya\u001F66a1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor")).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(unmarked)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void rejectsAnotherSort() {
+        KeysetCursor cursor = new KeysetCursor("name", Sort.Direction.ASC, "Priya", "66a1");
+
+        assertThatThrownBy(() -> cursor.requireSort("name", Sort.Direction.DESC))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> cursor.requireSort("joinDate", Sort.Direction.ASC))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
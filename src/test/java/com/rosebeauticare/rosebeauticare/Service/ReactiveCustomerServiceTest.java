@@ -0,0 +1,87 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Index.NameTrigramIndex;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Repository.ReactiveCustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveCustomerServiceTest {
+
+    private final ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+    private final NameTrigramIndex nameTrigramIndex = mock(NameTrigramIndex.class);
+    private final CustomerBackfill customerBackfill = mock(CustomerBackfill.class);
+    private ReactiveCustomerService customerService;
+
+    @BeforeEach
+    void setUp() {
+        customerService = new ReactiveCustomerService(mock(ReactiveCustomerRepository.class), mongoTemplate,
+                new CustomerService(null, null, null, null, null, null, null, null, null), customerBackfill,
+                nameTrigramIndex, null, new CaffeineCacheManager("customers"), null);
+        when(nameTrigramIndex.search(any(), anyInt())).thenReturn(Optional.empty());
+        when(customerBackfill.isNameKeyReady()).thenReturn(true);
+    }
+
+    @Test
+    void searchRanksPrefixMatchesFirstLikeV1() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class)))
+                .thenReturn(Flux.just(customer("1", "Priya")))
+                .thenReturn(Flux.just(customer("2", "Anu Priya")));
+
+        List<CustomerDTO> results = customerService.searchCustomers("PRI", 20).collectList().block();
+
+        assertThat(results).extracting(CustomerDTO::getId).containsExactly("1", "2");
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queries.capture(), eq(Customer.class));
+        assertThat(queries.getAllValues().get(0).getQueryObject())
+                .isEqualTo(CustomerService.nameKeyPrefixQuery("pri", 20).getQueryObject());
+        // Regex patterns have no equals, so the contains query is compared as JSON
+        assertThat(queries.getAllValues().get(1).getQueryObject().toJson())
+                .isEqualTo(CustomerService.nameKeyContainsQuery("pri", 19).getQueryObject().toJson());
+        assertThat(queries.getAllValues().get(1).getLimit()).isEqualTo(19);
+    }
+
+    @Test
+    void searchSkipsTheContainsPhaseOnceThePrefixFillsTheLimit() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class)))
+                .thenReturn(Flux.just(customer("1", "Priya"), customer("3", "Priyanka")));
+
+        assertThat(customerService.searchCustomers("pri", 2).collectList().block()).hasSize(2);
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(Customer.class));
+    }
+
+    @Test
+    void aTimedOutContainsPhaseKeepsThePrefixMatches() {
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class)))
+                .thenReturn(Flux.just(customer("1", "Priya")))
+                .thenReturn(Flux.error(new UncategorizedMongoDbException("timed out",
+                        new MongoExecutionTimeoutException(50, "operation exceeded time limit"))));
+
+        assertThat(customerService.searchCustomers("pri", 20).collectList().block())
+                .extracting(CustomerDTO::getId).containsExactly("1");
+    }
+
+    private static Customer customer(String id, String name) {
+        return Customer.builder().id(id).name(name).build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.rosebeauticare.rosebeauticare.Service;
+
+import com.rosebeauticare.rosebeauticare.Exception.RateLimitExceededException;
+import com.rosebeauticare.rosebeauticare.config.QuotaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestQuotaServiceTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private RequestQuotaService quotaService(int perMinute, long perDay) {
+        QuotaProperties properties = new QuotaProperties();
+        properties.setRequestsPerMinute(perMinute);
+        properties.setRequestsPerDay(perDay);
+        return new RequestQuotaService(properties, new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    void minuteBucketRefillsOverTime() {
+        RequestQuotaService service = quotaService(2, 1000);
+        service.checkQuota("ip:1");
+        service.checkQuota("ip:1");
+
+        assertThatThrownBy(() -> service.checkQuota("ip:1"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(ex -> assertThat(((RateLimitExceededException) ex).getRetryAfterSeconds()).isEqualTo(30));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        service.checkQuota("ip:1");
+    }
+
+    @Test
+    void clientsHaveIndependentQuotas() {
+        RequestQuotaService service = quotaService(1, 1000);
+        service.checkQuota("ip:1");
+        service.checkQuota("ip:2");
+
+        assertThatThrownBy(() -> service.checkQuota("ip:1")).isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void dailyWindowSlidesInsteadOfStayingExhausted() {
+        RequestQuotaService service = quotaService(1000, 3);
+        for (int i = 0; i < 3; i++) {
+            service.checkQuota("key:abc");
+        }
+        assertThatThrownBy(() -> service.checkQuota("key:abc")).isInstanceOf(RateLimitExceededException.class);
+
+        clock.addAndGet(TimeUnit.HOURS.toNanos(36));
+        service.checkQuota("key:abc");
+    }
+}
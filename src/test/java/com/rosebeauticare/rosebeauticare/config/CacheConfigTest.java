@@ -0,0 +1,97 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheConfigTest {
+
+    @Test
+    void buildsEachSpecWithItsOwnBoundsAndRefresh() {
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Spec customers = new CacheProperties.Spec();
+        customers.setMaximumWeight(DataSize.ofKilobytes(64));
+        customers.setRefreshAfterWrite(Duration.ofMinutes(5));
+        properties.getSpecs().put("customers", customers);
+        CacheProperties.Spec lists = new CacheProperties.Spec();
+        lists.setMaximumSize(10);
+        properties.getSpecs().put("lists", lists);
+
+        CacheManager cacheManager = new CacheConfig().cacheManager(properties, List.of(loader("customers")));
+
+        Cache<Object, Object> customerCache = nativeCache(cacheManager, "customers");
+        assertThat(customerCache).isInstanceOf(LoadingCache.class);
+        assertThat(customerCache.policy().refreshAfterWrite()).isPresent();
+        assertThat(customerCache.policy().eviction().orElseThrow().isWeighted()).isTrue();
+        assertThat(customerCache.policy().eviction().orElseThrow().getMaximum()).isEqualTo(64 * 1024);
+
+        Cache<Object, Object> listCache = nativeCache(cacheManager, "lists");
+        assertThat(listCache.policy().refreshAfterWrite()).isEmpty();
+        assertThat(listCache.policy().eviction().orElseThrow().getMaximum()).isEqualTo(10);
+        assertThat(cacheManager.getCacheNames()).contains("customers", "lists");
+    }
+
+    @Test
+    void refreshWithoutLoaderFailsFast() {
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setRefreshAfterWrite(Duration.ofMinutes(1));
+        properties.getSpecs().put("orphan", spec);
+
+        assertThatThrownBy(() -> new CacheConfig().cacheManager(properties, List.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("orphan");
+    }
+
+    @Test
+    void jitterSpreadsLifetimesAroundTheBase() {
+        JitteredExpiry expiry = new JitteredExpiry(Duration.ofSeconds(100), 0.2);
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < 10_000; i++) {
+            long lifetime = expiry.lifetime();
+            min = Math.min(min, lifetime);
+            max = Math.max(max, lifetime);
+        }
+        assertThat(min).isGreaterThanOrEqualTo(Duration.ofSeconds(80).toNanos());
+        assertThat(max).isLessThanOrEqualTo(Duration.ofSeconds(120).toNanos());
+        assertThat(max - min).isGreaterThan(Duration.ofSeconds(30).toNanos());
+    }
+
+    @Test
+    void weighsListsByTheirElements() {
+        CustomerDTO customer = CustomerDTO.builder().id("1").name("Priya Raman").phone("9876543210").build();
+        long single = CacheEntryWeigher.estimate(customer);
+
+        assertThat(single).isGreaterThan(100);
+        assertThat(CacheEntryWeigher.estimate(List.of(customer, customer, customer))).isGreaterThan(3 * single);
+    }
+
+    private static Cache<Object, Object> nativeCache(CacheManager cacheManager, String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+
+    private static RefreshingCacheLoader loader(String cacheName) {
+        return new RefreshingCacheLoader() {
+            @Override
+            public String cacheName() {
+                return cacheName;
+            }
+
+            @Override
+            public Object load(Object key) {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rosebeauticare.rosebeauticare.DTO.CustomerDTO;
+import com.rosebeauticare.rosebeauticare.Response.Customer.DataResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataResponseMessageConverterTest {
+
+    /** Configured like Spring Boot's mapper, which writes dates as ISO-8601 text. */
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final DataResponseMessageConverter converter = new DataResponseMessageConverter(objectMapper);
+
+    @Test
+    void writesTheSameJsonAsJackson() throws Exception {
+        CustomerDTO customer = CustomerDTO.builder()
+                .id("6650f0c2a1b2c3d4e5f60001")
+                .name("Priya \"Rose\" Kumar")
+                .phone("9876543210")
+                .dob(new Date(702_000_000_000L))
+                .age(34)
+                .build();
+
+        assertSameAsJackson(DataResponse.success(List.of(customer), "Found 1 customer"));
+        assertSameAsJackson(DataResponse.success(customer, "Customer retrieved", "req-1"));
+        assertSameAsJackson(DataResponse.failure("Customer already exists"));
+        assertSameAsJackson(DataResponse.successWithPagination(List.of("a", "b"), "Page", 1, 2, 6, 3));
+        assertSameAsJackson(new DataResponse<>(true, 42, null, LocalDateTime.of(2025, 1, 2, 3, 4), null, "2.0.0", null));
+    }
+
+    @Test
+    void followsTheMapperForNumericTimestamps() throws Exception {
+        ObjectMapper numericDates = Jackson2ObjectMapperBuilder.json().build();
+        DataResponse<String> response = DataResponse.success("ok", "Done");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        new DataResponseMessageConverter(numericDates).write(response, MediaType.APPLICATION_JSON, output);
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(numericDates.writeValueAsString(response));
+    }
+
+    @Test
+    void onlyWritesDataResponses() {
+        assertThat(converter.canWrite(DataResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(String.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(DataResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private void assertSameAsJackson(DataResponse<?> response) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, output);
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(response));
+    }
+}
@@ -0,0 +1,159 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.rosebeauticare.rosebeauticare.Exception.ServiceBusyException;
+import com.rosebeauticare.rosebeauticare.Model.Customer;
+import com.rosebeauticare.rosebeauticare.Repository.CustomerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MongoBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MongoBulkhead bulkhead = new MongoBulkhead(meterRegistry, 1, Duration.ofMillis(20));
+
+    @Test
+    void rejectsCallsOnceAllPermitsAreHeld() throws Throwable {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ProceedingJoinPoint slow = joinPoint();
+        when(slow.proceed()).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "slow";
+        });
+        CompletableFuture<Object> holder = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.guard(slow);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> bulkhead.guard(joinPoint()))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThat(meterRegistry.counter("rosebeauticare.mongo.bulkhead.rejected").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    @Test
+    void releasesPermitWhenCallFails() throws Throwable {
+        ProceedingJoinPoint failing = joinPoint();
+        when(failing.proceed()).thenThrow(new IllegalStateException("boom"));
+        assertThatThrownBy(() -> bulkhead.guard(failing)).isInstanceOf(IllegalStateException.class);
+
+        ProceedingJoinPoint ok = joinPoint();
+        when(ok.proceed()).thenReturn("ok");
+        assertThat(bulkhead.guard(ok)).isEqualTo("ok");
+    }
+
+    @Test
+    void nestedCallsShareThePermitOfTheOuterCall() throws Throwable {
+        ProceedingJoinPoint inner = joinPoint();
+        when(inner.proceed()).thenReturn("inner");
+        ProceedingJoinPoint outer = joinPoint();
+        when(outer.proceed()).thenAnswer(invocation -> bulkhead.guard(inner));
+
+        assertThat(bulkhead.guard(outer)).isEqualTo("inner");
+        assertThat(bulkhead.guard(inner)).isEqualTo("inner");
+    }
+
+    @Test
+    void guardsExecutionOfBulkOperationsHandedOut() throws Throwable {
+        BulkOperations operations = mock(BulkOperations.class);
+        when(operations.insert(any(Object.class))).thenReturn(operations);
+        ProceedingJoinPoint bulkOps = joinPoint();
+        when(bulkOps.proceed()).thenReturn(operations);
+        BulkOperations guarded = (BulkOperations) bulkhead.guard(bulkOps);
+
+        assertThat(guarded.insert("customer")).isSameAs(guarded);
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ProceedingJoinPoint slow = joinPoint();
+        when(slow.proceed()).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "slow";
+        });
+        CompletableFuture<Object> holder = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.guard(slow);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(guarded::execute).isInstanceOf(ServiceBusyException.class);
+        verify(operations, never()).execute();
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        guarded.execute();
+        verify(operations).execute();
+    }
+
+    @Test
+    void advisesTemplateAndRepositoryCalls() throws Exception {
+        MongoOperations template = mock(MongoOperations.class);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(template.count(any(Query.class), eq(Customer.class))).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1L;
+        });
+        MongoOperations advisedTemplate = advised(template);
+        CustomerRepository advisedRepository = advised(mock(CustomerRepository.class));
+
+        CompletableFuture<Long> holder =
+                CompletableFuture.supplyAsync(() -> advisedTemplate.count(new Query(), Customer.class));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> advisedTemplate.findById("1", Customer.class))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThatThrownBy(() -> advisedRepository.findById("1"))
+                .isInstanceOf(ServiceBusyException.class);
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        assertThat(advisedRepository.findById("1")).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T advised(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(bulkhead);
+        return (T) factory.getProxy();
+    }
+
+    private static ProceedingJoinPoint joinPoint() {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+        when(signature.toShortString()).thenReturn("CustomerRepository.findById(..)");
+        when(joinPoint.getSignature()).thenReturn(signature);
+        return joinPoint;
+    }
+}
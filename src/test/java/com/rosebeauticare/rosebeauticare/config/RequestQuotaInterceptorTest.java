@@ -0,0 +1,43 @@
+package com.rosebeauticare.rosebeauticare.config;
+
+import com.rosebeauticare.rosebeauticare.Service.RequestQuotaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RequestQuotaInterceptorTest {
+
+    private final RequestQuotaInterceptor interceptor = interceptor(Set.of("front-desk-1"));
+
+    @Test
+    void configuredKeysGetTheirOwnQuota() {
+        assertThat(interceptor.resolveClientKey(request("10.0.0.7", " front-desk-1 "))).isEqualTo("key:front-desk-1");
+    }
+
+    @Test
+    void unknownKeysAreChargedByAddress() {
+        assertThat(interceptor.resolveClientKey(request("10.0.0.7", "rotated-" + System.nanoTime())))
+                .isEqualTo("ip:10.0.0.7");
+        assertThat(interceptor.resolveClientKey(request("10.0.0.7", null))).isEqualTo("ip:10.0.0.7");
+        assertThat(interceptor(Set.of()).resolveClientKey(request("10.0.0.8", "front-desk-1"))).isEqualTo("ip:10.0.0.8");
+    }
+
+    private static RequestQuotaInterceptor interceptor(Set<String> apiKeys) {
+        QuotaProperties properties = new QuotaProperties();
+        properties.setApiKeys(apiKeys);
+        return new RequestQuotaInterceptor(mock(RequestQuotaService.class), properties);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customers");
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+}